@@ -0,0 +1,201 @@
+package com.joebeaulieu.rapidbrackets.activities;
+
+import android.app.Fragment;
+import android.os.Bundle;
+
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshot;
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketScene;
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketWorker;
+import com.joebeaulieu.rapidbrackets.bracketinterface.PersistenceExecutor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A headless {@code Fragment} which keeps the {@code BracketScene} of the {@code PlayBracket} screen
+ * alive across configuration changes, such as screen rotations. The {@code Bracket} itself lives in
+ * the {@code BracketInterface}, so once the {@code PlayBracket} screen is recreated, it only has to
+ * bind the retained {@code BracketScene} to its new {@code BracketView}, rather than recreating the
+ * {@code Bracket} and laying it out again.
+ * <p>
+ * The {@code BracketHolder} also runs the creation and layout of the {@code Bracket} on the
+ * {@code BracketWorker}, so the work carries on through a screen rotation, and its result is handed
+ * to whichever {@code PlayBracket} screen is resumed once it is done.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see PlayBracket   PlayBracket
+ * @see BracketScene  BracketScene
+ * @see BracketWorker BracketWorker
+ * @since 1.0.1
+ */
+public class BracketHolder extends Fragment {
+    /**
+     * Recreates and lays out a {@code Bracket} from the {@code BracketSnapshot} it was saved as.
+     */
+    public interface SnapshotBuilder {
+        /**
+         * Recreates and lays out the {@code Bracket}. Called on the {@code BracketWorker}'s thread,
+         * so it must not touch any {@code View}.
+         *
+         * @param snapshot the saved state of the Bracket
+         * @return         the BracketScene of the Bracket
+         * @throws Exception if the Bracket cannot be recreated
+         */
+        BracketScene build(BracketSnapshot snapshot) throws Exception;
+    }
+
+    /**
+     * The tag the {@code BracketHolder} is added to the {@code FragmentManager} with.
+     */
+    public static final String TAG = "bracket holder";
+
+    /**
+     * The retained layout and state of the on-screen {@code Bracket}, or null if it has not been
+     * built yet.
+     */
+    private BracketScene scene;
+
+    /**
+     * Whether or not the {@code Bracket} is being created and laid out on the
+     * {@code BracketWorker}.
+     */
+    private boolean building;
+
+    /**
+     * Whether or not a finished build has yet to be handed to a resumed {@code PlayBracket}
+     * screen.
+     */
+    private boolean pending;
+
+    /**
+     * Creates the {@code BracketHolder}, retaining it across configuration changes.
+     *
+     * @param savedInstanceState the Bundle that is associated with the BracketHolder; unused
+     */
+    @Override
+    public void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setRetainInstance(true);
+    }
+
+    /**
+     * Hands a finished build to the {@code PlayBracket} screen, should it have finished while the
+     * screen was being recreated or was in the background.
+     */
+    @Override
+    public void onResume() {
+        super.onResume();
+        deliver();
+    }
+
+    /**
+     * Returns the retained {@code BracketScene}.
+     *
+     * @return the retained BracketScene, or null if there is none
+     */
+    public BracketScene getScene() {
+        return scene;
+    }
+
+    /**
+     * Sets the {@code BracketScene} to retain. Since it has been shown by then, a finished build
+     * is no longer waiting to be handed over.
+     *
+     * @param scene the BracketScene to retain
+     */
+    public void setScene(BracketScene scene) {
+        this.scene = scene;
+        pending = false;
+    }
+
+    /**
+     * Returns whether or not the {@code Bracket} is being created and laid out on the
+     * {@code BracketWorker}.
+     *
+     * @return true if the Bracket is being built
+     */
+    public boolean isBuilding() {
+        return building;
+    }
+
+    /**
+     * Creates and lays out the {@code Bracket} on the {@code BracketWorker}. Once it is done, the
+     * resulting {@code BracketScene} is retained and handed to the {@code PlayBracket} screen
+     * once it is resumed, or null is handed to it if the work failed.
+     *
+     * @param work creates the Bracket and returns its BracketScene; called on the BracketWorker's
+     *             thread, so it must not touch any View
+     * @see PlayBracket#showBracket(BracketScene) PlayBracket.showBracket(BracketScene)
+     */
+    public void build(Callable<BracketScene> work) {
+        building = true;
+        BracketWorker.submit(work, new BracketWorker.Callback<BracketScene>() {
+            @Override
+            public void onSuccess(BracketScene result) {
+                finish(result);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                finish(null);
+            }
+        });
+    }
+
+    /**
+     * Reads a saved {@code Bracket} through the {@code PersistenceExecutor}, so that the read sees
+     * any save still being written, then recreates and lays it out on the {@code BracketWorker}.
+     * Only the ID of the {@code Bracket} ever passes between screens; the
+     * {@code BracketSnapshot} stays in this process.
+     *
+     * @param read    reads the BracketSnapshot of the saved Bracket, or null if it no longer exists
+     * @param builder recreates and lays out the Bracket from its BracketSnapshot
+     * @see #build(Callable) build(Callable)
+     */
+    public void load(Callable<BracketSnapshot> read, final SnapshotBuilder builder) {
+        building = true;
+        PersistenceExecutor.read(read, new PersistenceExecutor.Callback<BracketSnapshot>() {
+            @Override
+            public void onSuccess(final BracketSnapshot snapshot) {
+                if (snapshot == null) {
+                    finish(null);
+                    return;
+                }
+                build(new Callable<BracketScene>() {
+                    @Override
+                    public BracketScene call() throws Exception {
+                        return builder.build(snapshot);
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                finish(null);
+            }
+        });
+    }
+
+    /**
+     * Retains the result of a build and hands it to the {@code PlayBracket} screen.
+     *
+     * @param result the BracketScene of the Bracket, or null if the build failed
+     */
+    private void finish(BracketScene result) {
+        building = false;
+        pending = true;
+        scene = result;
+        deliver();
+    }
+
+    /**
+     * Hands the result of a finished build to the {@code PlayBracket} screen, but only while it is
+     * resumed, so that nothing is shown on a screen which is stopped or has been destroyed.
+     */
+    private void deliver() {
+        if (pending && isResumed() && getActivity() instanceof PlayBracket) {
+            pending = false;
+            ((PlayBracket) getActivity()).showBracket(scene);
+        }
+    }
+}
@@ -10,6 +10,8 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketWorker;
+
 /**
  * This is the {@code AppCompatActivity} for the first page that displays when the application loads.
  * From here, the user can navigate to {@code NewBracket} or {@code LoadBracket} via the "New" and
@@ -23,7 +25,8 @@ public class MainActivity extends AppCompatActivity {
 
     /**
      * Creates the {@code MainActivity} {@code AppCompatActivity}. Determines whether or not the
-     * {@code AppCompatActivity}'s image needs to be resized.
+     * {@code AppCompatActivity}'s image needs to be resized, and has the {@code BracketWorker}
+     * precompute the seed order tables for common {@code Bracket} sizes, once per process.
      *
      * @param savedInstanceState the Bundle that is associated with this AppCompatActivity
      */
@@ -32,6 +35,8 @@ public class MainActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
 
+        BracketWorker.precomputeSeedOrders();
+
         final ImageView img = (ImageView) findViewById(R.id.main_activity_image);
         img.post(new Runnable() {
             @Override
@@ -14,6 +14,7 @@ import android.widget.LinearLayout;
 import android.widget.Spinner;
 
 import com.joebeaulieu.rapidbrackets.bracketinterface.BracketDbHelper;
+import com.joebeaulieu.rapidbrackets.bracketinterface.PersistenceExecutor;
 import com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface;
 import com.joebeaulieu.rapidbrackets.prompts.PromptError;
 import com.joebeaulieu.rapidbrackets.prompts.PromptLeaveScreen;
@@ -21,6 +22,7 @@ import com.joebeaulieu.rapidbrackets.prompts.PromptLeaveScreen;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
 
 /**
  * This is the {@code AppCompatActivity} for the application's "Create" screen where new {@code Bracket}s
@@ -50,6 +52,13 @@ public class NewBracket extends AppCompatActivity {
      */
     private LinearLayout playerEntryLayout;
 
+    /**
+     * Whether or not the {@code AppCompatActivity} has been destroyed, so that results delivered
+     * from the background after a screen rotation are not shown on it. Kept here as
+     * {@code Activity.isDestroyed()} is not available on every supported API level.
+     */
+    private boolean destroyed;
+
     /**
      * Creates the {@code NewBracket} {@code AppCompatActivity}. All class variables are initialized
      * here.
@@ -144,7 +153,6 @@ public class NewBracket extends AppCompatActivity {
         ArrayList<String> playerNames = new ArrayList<>();
         ArrayList<String> seedsSelected = new ArrayList<>();
         boolean dialogPopped = false;
-        BracketDbHelper db = new BracketDbHelper(this);
 
         // fills playerNames and seedsSelected ArrayLists to check
         // for name and seed uniqueness
@@ -163,16 +171,14 @@ public class NewBracket extends AppCompatActivity {
             }
         }
 
-        // error check the Bracket name, and check to see if it already exists
+        // error check the Bracket name; whether it already exists is
+        // checked in the background once everything else has passed
         if (bracketName.equals("")) {
             popEmptyNameDialog(getString(R.string.error_text_no_bracket_name));
             dialogPopped = true;
         } else if (!checkCharValidity(bracketName)) {
             popEmptyNameDialog(getString(R.string.error_text_invalid_char_bracket));
             dialogPopped = true;
-        } else if (db.doesBracketExist(bracketName)) {
-            popEmptyNameDialog(getString(R.string.error_text_duplicate_bracket_name));
-            dialogPopped = true;
         } else {
             // check that player names are filled out
             for (int i = 0; i < childCount; i++) {
@@ -248,18 +254,57 @@ public class NewBracket extends AppCompatActivity {
                     }
                 }
             }
-            Intent intent = new Intent(this, PlayBracket.class);
-            intent.putExtra("bracketName", bracketName);
-            intent.putExtra("elimType", elimTypeInt);
-            intent.putExtra("names", names);
-            intent.putExtra("seeds", seeds);
-            // the int value passed here is arbitrary as startActivityForResult()
-            // is only being called over startActivity() so that getCallingActivity()
-            // will not return null
-            startActivityForResult(intent, 0);
+            startBracket(bracketName, elimTypeInt, names, seeds);
         }
     }
 
+    /**
+     * Checks, in the background, that no {@code Bracket} with the given name exists, then passes
+     * the {@code Bracket} to the {@code PlayBracket} {@code AppCompatActivity} for creation. A
+     * {@code PromptError} is displayed instead if the name is taken, or if the check fails.
+     *
+     * @param bracketName a String representation of the name of the Bracket
+     * @param elimType    the elimination type of the Bracket
+     * @param names       the names of the Players in the Bracket
+     * @param seeds       the seeds of the Players in the Bracket; null where a Player has none
+     */
+    private void startBracket(final String bracketName, final int elimType, final String[] names, final Integer[] seeds) {
+        final BracketDbHelper db = BracketDbHelper.getInstance(getApplicationContext());
+        PersistenceExecutor.read(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return db.doesBracketExist(bracketName);
+            }
+        }, new PersistenceExecutor.Callback<Boolean>() {
+            @Override
+            public void onSuccess(Boolean exists) {
+                if (isFinishing() || destroyed) {
+                    return;
+                }
+                if (exists) {
+                    popEmptyNameDialog(getString(R.string.error_text_duplicate_bracket_name));
+                    return;
+                }
+                Intent intent = new Intent(NewBracket.this, PlayBracket.class);
+                intent.putExtra("bracketName", bracketName);
+                intent.putExtra("elimType", elimType);
+                intent.putExtra("names", names);
+                intent.putExtra("seeds", seeds);
+                // the int value passed here is arbitrary as startActivityForResult()
+                // is only being called over startActivity() so that getCallingActivity()
+                // will not return null
+                startActivityForResult(intent, 0);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (!isFinishing() && !destroyed) {
+                    popEmptyNameDialog(getString(R.string.error_bracket_name_check_failed));
+                }
+            }
+        });
+    }
+
     /**
      * Checks the validity of the target {@code String} and returns a {@code boolean} value representing
      * whether or not all of the {@code Character}s were contained in the valid {@code Character} list.
@@ -437,6 +482,16 @@ public class NewBracket extends AppCompatActivity {
         prompt.show(getFragmentManager(), "leave screen confirmation prompt");
     }
 
+    /**
+     * Marks the {@code AppCompatActivity} as destroyed, so that no background result is shown on
+     * it.
+     */
+    @Override
+    protected void onDestroy() {
+        destroyed = true;
+        super.onDestroy();
+    }
+
     /**
      * Stores the current state of the {@code Player} list, which includes the information entered
      * into the {@code Player} name {@code EditText}s and {@code Player} seed {@code Spinner}s. Also
@@ -1,21 +1,36 @@
 package com.joebeaulieu.rapidbrackets.activities;
 
 import android.app.DialogFragment;
+import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
 import android.support.v7.app.AppCompatActivity;
+import android.util.Log;
 import android.view.Menu;
 import android.view.MenuItem;
-import android.widget.LinearLayout;
+import android.view.View;
 import android.widget.Toast;
 
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshot;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotReader;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotWriter;
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketDbHelper;
 import com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface;
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketScene;
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketView;
+import com.joebeaulieu.rapidbrackets.bracketinterface.PersistenceExecutor;
+import com.joebeaulieu.rapidbrackets.bracketinterface.TextCropper;
 import com.joebeaulieu.rapidbrackets.exceptions.BracketNotCreatedException;
 import com.joebeaulieu.rapidbrackets.exceptions.InvalidElimTypeException;
+import com.joebeaulieu.rapidbrackets.prompts.PromptError;
 import com.joebeaulieu.rapidbrackets.prompts.PromptSave;
 
-import java.util.ArrayList;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
 
 /**
  * This is the {@code AppCompatActivity} for the application's "Load" screen. This is where the
@@ -29,17 +44,54 @@ import java.util.Arrays;
  */
 public class PlayBracket extends AppCompatActivity {
     /**
-     * Keeps track of whether or not the {@code AppCompatActivity} was destroyed due to screen rotation.
+     * The tag failures to keep or restore the {@code Bracket} are logged under.
      */
-    private boolean wasScreenRotated;
+    private static final String TAG = "PlayBracket";
 
     /**
-     * Creates the {@code NewBracket} {@code AppCompatActivity}. This is where the user "plays through"
-     * and saves the {@code Bracket}.
+     * The largest snapshot, in bytes, kept in the saved instance state itself. A larger one is
+     * written to a file instead, keeping the {@code Bundle} well within what Binder can carry.
+     */
+    private static final int MAX_BUNDLED_SNAPSHOT_BYTES = 256 * 1024;
+
+    /**
+     * The name of the file, in the cache directory, a snapshot too large for the saved instance
+     * state is written to.
+     */
+    private static final String SNAPSHOT_FILE_NAME = "play_bracket_snapshot";
+
+    /**
+     * The saved instance state the {@code Bracket} is being restored from after the process was
+     * killed, kept so that it can be saved again should the process be killed before the
+     * {@code Bracket} is restored. Null otherwise.
+     */
+    private Bundle restoring;
+
+    /**
+     * Retains the layout of the {@code Bracket} across configuration changes, and builds it in
+     * the background.
+     */
+    private BracketHolder holder;
+
+    /**
+     * Creates the {@code PlayBracket} {@code AppCompatActivity}. This is where the user "plays
+     * through" and saves the {@code Bracket}.
+     * <p>
+     * After a configuration change, such as a screen rotation, the {@code Bracket} is still held by
+     * the {@code BracketInterface}, and its layout by the retained {@code BracketHolder}, so both
+     * are simply bound to the new {@code BracketView}. Otherwise a progress indicator is shown while
+     * the {@code BracketHolder} creates, or recreates, the {@code Bracket} in the background, based
+     * on where the class was started from, and lays it out.
+     * <p>
+     * Should the process have been killed in the background, the {@code Bracket} is restored from
+     * the binary snapshot kept by {@code onSaveInstanceState(Bundle)}, so that no unsaved results
+     * are lost and no {@code Player} is seeded again. Only if there is no snapshot is the
+     * {@code Bracket} created, or loaded, again from the {@code Intent}.
      *
      * @param savedInstanceState the Bundle that is associated with this AppCompatActivity. The only
-     *                           information stored in this Bundle is a boolean value representing
-     *                           whether or not the screen was rotated.
+     *                           information stored in this Bundle is the Bracket's snapshot, or the
+     *                           path of the file holding it, stored in onSaveInstanceState(Bundle)
+     * @see #onSaveInstanceState(Bundle) onSaveInstanceState(Bundle)
      */
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -50,62 +102,171 @@ public class PlayBracket extends AppCompatActivity {
             getSupportActionBar().setDisplayHomeAsUpEnabled(true);
         }
 
-        // creates or recreates the Bracket based on where the class was started
-        // from, or whether or not the screen was rotated
-        try {
-            Intent intent = getIntent();
-            String bracketName = intent.getStringExtra("bracketName");
-            int elimType = intent.getIntExtra("elimType", -1);
-            if (elimType == -1) {
-                throw new InvalidElimTypeException("Possible values: 0, 1\tFound: -1\nelimType variable not initialized or stored");
+        holder = (BracketHolder) getFragmentManager().findFragmentByTag(BracketHolder.TAG);
+        if (holder == null) {
+            holder = new BracketHolder();
+            getFragmentManager().beginTransaction().add(holder, BracketHolder.TAG).commit();
+        }
+        if (savedInstanceState != null && (savedInstanceState.containsKey("snapshot")
+                || savedInstanceState.containsKey("snapshotFile"))) {
+            restoring = savedInstanceState;
+        }
+
+        if (holder.getScene() != null) {
+            showBracket(holder.getScene());
+        } else {
+            findViewById(R.id.play_bracket_progress).setVisibility(View.VISIBLE);
+            // a build started before a screen rotation carries on, and
+            // hands its result to this AppCompatActivity once it is done
+            if (!holder.isBuilding()) {
+                if (restoring != null) {
+                    holder.build(restoreBracket(restoring));
+                } else if (isCalledFrom(LoadBracket.class)) {
+                    loadBracket();
+                } else {
+                    holder.build(createBracket());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the work which creates the {@code Bracket} from the players entered on the
+     * {@code NewBracket} screen, and lays it out. Everything it needs is read from the
+     * {@code Intent}, and the {@code TextCropper} its names are cropped with is built, here on the
+     * UI thread, so that the work itself neither touches this {@code AppCompatActivity} nor
+     * creates any {@code View}, and can run on the {@code BracketWorker}.
+     *
+     * @return the work, which returns the BracketScene of the Bracket
+     */
+    private Callable<BracketScene> createBracket() {
+        Intent intent = getIntent();
+        final String bracketName = intent.getStringExtra("bracketName");
+        final int elimType = intent.getIntExtra("elimType", -1);
+        final Context appContext = getApplicationContext();
+        final TextCropper cropper = BracketInterface.textCropper(this);
+        BracketView view = (BracketView) findViewById(R.id.comp_bracket);
+        final int nodeWidth = view.getNodeWidth();
+        final int nodeHeight = view.getNodeHeight();
+
+        final String[] names;
+        final Integer[] seeds;
+        if (isCalledFrom(NewBracket.class)) {
+            // this lengthy conversion of the Serializable Extra "seeds" is to
+            // deal with a bug in Android 4.X.X where directly casting an Integer[]
+            // in the following manner: (Integer[]) intent.getSerializableExtra(string)
+            // will throw a ClassCastException
+            Object[] seedsObj = (Object[]) intent.getSerializableExtra("seeds");
+            names = (String[]) intent.getSerializableExtra("names");
+            seeds = seedsObj == null ? null : Arrays.copyOf(seedsObj, seedsObj.length, Integer[].class);
+        } else {
+            names = null;
+            seeds = null;
+        }
+
+        return new Callable<BracketScene>() {
+            @Override
+            public BracketScene call() throws Exception {
+                if (elimType == -1) {
+                    throw new InvalidElimTypeException("Possible values: 0, 1\tFound: -1\nelimType variable not initialized or stored");
+                }
+                if (names != null) {
+                    BracketInterface.createBracket(elimType, bracketName, names, seeds);
+                }
+                return BracketInterface.layoutBracket(appContext, cropper, nodeWidth, nodeHeight);
             }
-            try {
-                wasScreenRotated = savedInstanceState.getBoolean("wasScreenRotated");
-            } catch (NullPointerException e) {
-                e.printStackTrace();
+        };
+    }
+
+    /**
+     * Loads the {@code Bracket} selected on the {@code LoadBracket} screen. Only its ID is passed
+     * in the {@code Intent}; the {@code BracketHolder} reads its {@code BracketSnapshot} from the
+     * {@code SQLiteDatabase} through the {@code PersistenceExecutor}, then recreates and lays out
+     * the {@code Bracket} on the {@code BracketWorker} As when creating a {@code Bracket}, the
+     * {@code TextCropper} is built here on the UI thread.
+     */
+    private void loadBracket() {
+        final int bracketId = getIntent().getIntExtra("bracketId", 0);
+        final BracketDbHelper db = BracketDbHelper.getInstance(getApplicationContext());
+        final Context appContext = getApplicationContext();
+        final TextCropper cropper = BracketInterface.textCropper(this);
+        BracketView view = (BracketView) findViewById(R.id.comp_bracket);
+        final int nodeWidth = view.getNodeWidth();
+        final int nodeHeight = view.getNodeHeight();
+
+        holder.load(new Callable<BracketSnapshot>() {
+            @Override
+            public BracketSnapshot call() {
+                return db.getBracketSnapshot(bracketId);
             }
-            if (wasScreenRotated){
-                BracketInterface.recreateBracket(
-                        elimType,
-                        bracketName,
-                        savedInstanceState.getString("bracketDateCreated"),
-                        savedInstanceState.getStringArray("seatNameState"),
-                        savedInstanceState.getStringArray("seatIdState"),
-                        savedInstanceState.getIntArray("seatTierState"));
-                wasScreenRotated = false;
-            } else if (getCallingActivity() != null
-                    && getCallingActivity().getClassName().equals(NewBracket.class.getName())) {
-                // this lengthy conversion of the Serializable Extra "seeds" is to
-                // deal with a bug in Android 4.X.X where directly casting an Integer[]
-                // in the following manner: (Integer[]) intent.getSerializableExtra(string)
-                // will throw a ClassCastException
-                Object[] seedsObj = (Object[]) intent.getSerializableExtra("seeds");
-                Integer[] seeds = Arrays.copyOf(seedsObj, seedsObj.length, Integer[].class);
-                BracketInterface.createBracket(
-                        elimType,
-                        bracketName,
-                        (String[]) intent.getSerializableExtra("names"),
-                        seeds);
-            } else if (getCallingActivity() != null
-                    && getCallingActivity().getClassName().equals(LoadBracket.class.getName())) {
-                BracketInterface.recreateBracket(
-                        elimType,
-                        bracketName,
-                        "",
-                        (String[]) intent.getSerializableExtra("seatNameState"),
-                        (String[]) intent.getSerializableExtra("seatIdState"),
-                        (int[]) intent.getSerializableExtra("seatTierState"));
+        }, new BracketHolder.SnapshotBuilder() {
+            @Override
+            public BracketScene build(BracketSnapshot snapshot) throws Exception {
+                BracketInterface.recreateBracket(snapshot);
+                return BracketInterface.layoutBracket(appContext, cropper, nodeWidth, nodeHeight);
             }
-        } catch (NullPointerException e) {
-            e.printStackTrace();
-        } catch (InvalidElimTypeException e) {
-            System.out.println(e.getMessage());
-            e.printStackTrace();
-        }
+        });
+    }
 
-        // build the Bracket on-screen
+    /**
+     * Returns the work which restores the {@code Bracket} from the binary snapshot kept in the
+     * saved instance state, or in the file it names, after the process was killed, and lays it
+     * out. The snapshot is read, and the {@code Bracket} recreated, on the {@code BracketWorker}.
+     *
+     * @param savedInstanceState the Bundle holding the snapshot, or the path of its file
+     * @return                   the work, which returns the BracketScene of the Bracket
+     */
+    private Callable<BracketScene> restoreBracket(Bundle savedInstanceState) {
+        final byte[] bundled = savedInstanceState.getByteArray("snapshot");
+        final String path = savedInstanceState.getString("snapshotFile");
+        final Context appContext = getApplicationContext();
+        final TextCropper cropper = BracketInterface.textCropper(this);
+        BracketView view = (BracketView) findViewById(R.id.comp_bracket);
+        final int nodeWidth = view.getNodeWidth();
+        final int nodeHeight = view.getNodeHeight();
+
+        return new Callable<BracketScene>() {
+            @Override
+            public BracketScene call() throws Exception {
+                byte[] bytes = bundled != null ? bundled : readFile(new File(path));
+                BracketInterface.recreateBracket(BracketSnapshotReader.read(bytes));
+                return BracketInterface.layoutBracket(appContext, cropper, nodeWidth, nodeHeight);
+            }
+        };
+    }
+
+    /**
+     * Returns whether or not this {@code AppCompatActivity} was started from the given screen.
+     *
+     * @param caller the class of the screen
+     * @return       true if this AppCompatActivity was started from the screen, false otherwise
+     */
+    private boolean isCalledFrom(Class<?> caller) {
+        return getCallingActivity() != null
+                && getCallingActivity().getClassName().equals(caller.getName());
+    }
+
+    /**
+     * Draws a {@code BracketScene} on-screen and hides the progress indicator. Called once the
+     * {@code BracketHolder} has built the {@code Bracket}, and after a configuration change. If
+     * the {@code Bracket} failed to be built, a {@code PromptError} instance is created to notify
+     * the user instead.
+     *
+     * @param scene the BracketScene to draw, or null if the Bracket failed to be built
+     */
+    public void showBracket(BracketScene scene) {
+        findViewById(R.id.play_bracket_progress).setVisibility(View.GONE);
+        restoring = null;
+        if (scene == null) {
+            DialogFragment prompt = PromptError.newInstance(
+                    this.getString(R.string.error_title),
+                    this.getString(R.string.error_bracket_build_failed));
+            prompt.show(getFragmentManager(), "bracket build error");
+            return;
+        }
         try {
-            BracketInterface.buildBracketUI(this, (LinearLayout) findViewById(R.id.comp_bracket));
+            holder.setScene(BracketInterface.buildBracketUI(
+                    this, (BracketView) findViewById(R.id.comp_bracket), scene));
         } catch (BracketNotCreatedException e) {
             System.out.println(e.getMessage());
             e.printStackTrace();
@@ -153,14 +314,24 @@ public class PlayBracket extends AppCompatActivity {
     }
 
     /**
-     * Saves the {@code Bracket} via the {@code BracketInterface}. Displays a {@code Toast} after the
-     * {@code Bracket} has been saved, and a {@code Toast} if it failed to.
+     * Saves the {@code Bracket} via the {@code BracketInterface}. The save happens in the
+     * background, so this returns straight away; a {@code Toast} is displayed once the
+     * {@code Bracket} has been saved, or a {@code Toast} if it failed to.
      */
     public void saveBracket() {
+        final Context appContext = getApplicationContext();
         try {
-            BracketInterface.storeBracket(this);
-            Toast bracketSaved = Toast.makeText(this, R.string.toast_bracket_saved, Toast.LENGTH_SHORT);
-            bracketSaved.show();
+            BracketInterface.storeBracket(this, new PersistenceExecutor.Callback<Void>() {
+                @Override
+                public void onSuccess(Void result) {
+                    Toast.makeText(appContext, R.string.toast_bracket_saved, Toast.LENGTH_SHORT).show();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    Toast.makeText(appContext, R.string.toast_bracket_save_error, Toast.LENGTH_SHORT).show();
+                }
+            });
         } catch (BracketNotCreatedException e) {
             System.out.println(e.getMessage());
             e.printStackTrace();
@@ -191,42 +362,97 @@ public class PlayBracket extends AppCompatActivity {
     }
 
     /**
-     * Stores all the information required to recreate the on-screen {@code Bracket} when the
-     * {@code AppCompatActivity} is destroyed due to system constraints.
-     *
-     * ex. screen rotation, the system needs to clear up resources, etc.
+     * Stores all the information required to recreate the on-screen {@code Bracket} should the
+     * process be killed in the background: its binary snapshot, which keeps every result and
+     * seed. A snapshot of up to {@code MAX_BUNDLED_SNAPSHOT_BYTES} is kept in the {@code Bundle}
+     * itself; a larger one is written to a file in the cache directory, and only its path is kept,
+     * as the {@code Bundle} must pass through Binder.
+     * <p>
+     * No new snapshot is taken for a configuration change, such as a screen rotation, since the
+     * {@code Bracket} and its layout are still held in memory then; one being restored from is
+     * passed along, should the process be killed before it has been restored.
      *
      * @param savedInstanceState the Bundle which stores dynamic data from the AppCompatActivity
      */
     @Override
     public void onSaveInstanceState(Bundle savedInstanceState) {
         super.onSaveInstanceState(savedInstanceState);
+        if (holder.getScene() == null) {
+            // the Bracket is still being built, so the BracketInterface
+            // may not hold it yet
+            if (restoring != null && restoring.containsKey("snapshot")) {
+                savedInstanceState.putByteArray("snapshot", restoring.getByteArray("snapshot"));
+            } else if (restoring != null) {
+                savedInstanceState.putString("snapshotFile", restoring.getString("snapshotFile"));
+            }
+            return;
+        }
+        if (isChangingConfigurations()) {
+            return;
+        }
         try {
-            ArrayList bracketState = BracketInterface.getBracketState();
-            String dateCreated = "";
-            String[] seatNameState = new String[bracketState.size()];
-            String[] seatIdState = new String[bracketState.size()];
-            int[] seatTierState = new int[bracketState.size()];
-            for (int i = 0; i < bracketState.size(); i++) {
-                Object current = bracketState.get(i);
-                if (current instanceof Object[]) {
-                    if (i == 0) {
-                        dateCreated = (String) (((Object[]) current)[0]);
-                    } else {
-                        seatNameState[i] = (String) (((Object[]) current)[0]);
-                        seatIdState[i] = (String) (((Object[]) current)[1]);
-                        seatTierState[i] = (int) (((Object[]) current)[2]);
-                    }
-                }
+            byte[] bytes = BracketSnapshotWriter.write(BracketInterface.getBracketState());
+            if (bytes.length <= MAX_BUNDLED_SNAPSHOT_BYTES) {
+                savedInstanceState.putByteArray("snapshot", bytes);
+            } else {
+                File file = new File(getCacheDir(), SNAPSHOT_FILE_NAME);
+                writeFile(file, bytes);
+                savedInstanceState.putString("snapshotFile", file.getPath());
             }
-            savedInstanceState.putString("bracketDateCreated", dateCreated);
-            savedInstanceState.putStringArray("seatNameState", seatNameState);
-            savedInstanceState.putStringArray("seatIdState", seatIdState);
-            savedInstanceState.putIntArray("seatTierState", seatTierState);
-            savedInstanceState.putBoolean("wasScreenRotated", true);
-        } catch (BracketNotCreatedException e) {
-            System.out.println(e.getMessage());
-            e.printStackTrace();
+        } catch (BracketNotCreatedException | IOException e) {
+            Log.e(TAG, "Could not keep the Bracket for the saved instance state", e);
+        }
+    }
+
+    /**
+     * Deletes the file a large snapshot was written to once this {@code AppCompatActivity} is
+     * finished with for good, since nothing will restore from it again.
+     */
+    @Override
+    protected void onDestroy() {
+        if (isFinishing()) {
+            new File(getCacheDir(), SNAPSHOT_FILE_NAME).delete();
+        }
+        super.onDestroy();
+    }
+
+    /**
+     * Writes bytes to a file, replacing it. The bytes are written to a temporary file which then
+     * takes the file's place, so that a write cut short never leaves a damaged snapshot behind.
+     *
+     * @param file  the file to write
+     * @param bytes the bytes to write
+     * @throws IOException thrown if the file cannot be written
+     */
+    private static void writeFile(File file, byte[] bytes) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        FileOutputStream out = new FileOutputStream(temp);
+        try {
+            out.write(bytes);
+            out.getFD().sync();
+        } finally {
+            out.close();
+        }
+        if (!temp.renameTo(file)) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    /**
+     * Reads the whole of a file.
+     *
+     * @param file the file to read
+     * @return     the bytes of the file
+     * @throws IOException thrown if the file cannot be read
+     */
+    private static byte[] readFile(File file) throws IOException {
+        RandomAccessFile in = new RandomAccessFile(file, "r");
+        try {
+            byte[] bytes = new byte[(int) in.length()];
+            in.readFully(bytes);
+            return bytes;
+        } finally {
+            in.close();
         }
     }
 }
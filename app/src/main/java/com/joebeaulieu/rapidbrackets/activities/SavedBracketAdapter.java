@@ -0,0 +1,370 @@
+package com.joebeaulieu.rapidbrackets.activities;
+
+import android.content.Context;
+import android.support.v4.content.ContextCompat;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketDbHelper;
+import com.joebeaulieu.rapidbrackets.bracketinterface.BracketPage;
+import com.joebeaulieu.rapidbrackets.bracketinterface.PersistenceExecutor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Feeds the saved {@code Bracket}s to the table on the "Load" screen, one page at a time. The
+ * {@code ListView} only asks for the rows on-screen, and recycles their {@code View}s as they
+ * scroll off, so the table holds the same number of {@code View}s however many {@code Bracket}s
+ * are saved. Pages are queried in the background as the rows they hold come on-screen, and only
+ * the few pages nearest the last one queried are kept, so memory stays flat as well.
+ * <p>
+ * Until a row's page arrives the row is shown empty. The table is padded with empty rows to a
+ * minimum of {@code MIN_ROWS}, which cannot be selected.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketDbHelper#getBracketPage(int, int) BracketDbHelper.getBracketPage(int, int)
+ * @since 1.0.1
+ */
+public class SavedBracketAdapter extends BaseAdapter {
+    /**
+     * The number of {@code Bracket}s queried at a time.
+     */
+    private static final int PAGE_SIZE = 40;
+
+    /**
+     * The most pages kept at once. Enough to cover the rows on-screen with a page to either side.
+     */
+    private static final int MAX_PAGES = 4;
+
+    /**
+     * The minimum number of rows in the table.
+     */
+    private static final int MIN_ROWS = 7;
+
+    /**
+     * Inflates the {@code View} of each row.
+     */
+    private final LayoutInflater inflater;
+
+    /**
+     * The shared {@code BracketDbHelper} pages are queried from.
+     */
+    private final BracketDbHelper db;
+
+    /**
+     * The background color of the dark rows. Row background colors alternate between dark and
+     * light, with dark being first.
+     */
+    private final int columnDark;
+
+    /**
+     * The background color of the light rows.
+     */
+    private final int columnLight;
+
+    /**
+     * The background color of the selected row.
+     */
+    private final int columnHighlight;
+
+    /**
+     * The pages which have arrived, keyed by page number.
+     */
+    private final SparseArray<BracketPage> pages = new SparseArray<>();
+
+    /**
+     * The page numbers which have been queried but have not yet arrived.
+     */
+    private final SparseBooleanArray loading = new SparseBooleanArray();
+
+    /**
+     * The number of saved {@code Bracket}s.
+     */
+    private int count;
+
+    /**
+     * Counts calls to {@code reload()}, so that pages queried before a reload are ignored.
+     */
+    private int generation;
+
+    /**
+     * The ID of the selected {@code Bracket}, or 0 if none is selected.
+     */
+    private int selectedId;
+
+    /**
+     * The width of each column, in pixels, taken from the table's header. 0 until the header has
+     * been laid out.
+     */
+    private final int[] columnWidths = new int[3];
+
+    /**
+     * Holds the {@code TextView}s of a row, so they are found once per row rather than once per
+     * bind.
+     */
+    private static class RowViews {
+        /**
+         * Shows the name of the {@code Bracket}.
+         */
+        TextView name;
+
+        /**
+         * Shows the number of {@code Player}s in the {@code Bracket}.
+         */
+        TextView numPlayers;
+
+        /**
+         * Shows the date the {@code Bracket} was created.
+         */
+        TextView date;
+    }
+
+    /**
+     * The sole constructor for the {@code SavedBracketAdapter} class. The table starts out empty
+     * until {@code reload()} is called.
+     *
+     * @param context the Context of the LoadBracket AppCompatActivity
+     * @see #reload() reload()
+     */
+    public SavedBracketAdapter(Context context) {
+        inflater = LayoutInflater.from(context);
+        db = BracketDbHelper.getInstance(context);
+        columnDark = ContextCompat.getColor(context, R.color.table_column_dark);
+        columnLight = ContextCompat.getColor(context, R.color.table_column_light);
+        columnHighlight = ContextCompat.getColor(context, R.color.table_column_highlight);
+    }
+
+    /**
+     * Drops every page and counts the saved {@code Bracket}s again, in the background. The pages
+     * on-screen are queried again as they are bound. Since the count is queued behind any write
+     * already submitted, a reload straight after a delete does not list the deleted
+     * {@code Bracket}.
+     */
+    public void reload() {
+        generation++;
+        pages.clear();
+        loading.clear();
+        final int reloaded = generation;
+        PersistenceExecutor.read(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return db.getBracketCount();
+            }
+        }, new PersistenceExecutor.Callback<Integer>() {
+            @Override
+            public void onSuccess(Integer result) {
+                if (reloaded == generation) {
+                    count = result;
+                    notifyDataSetChanged();
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                // the failure has already been logged by the PersistenceExecutor
+            }
+        });
+    }
+
+    /**
+     * Sets the width of each column, so the rows line up with the table's header.
+     *
+     * @param name       the width of the name column, in pixels
+     * @param numPlayers the width of the Players column, in pixels
+     * @param date       the width of the date column, in pixels
+     */
+    public void setColumnWidths(int name, int numPlayers, int date) {
+        columnWidths[0] = name;
+        columnWidths[1] = numPlayers;
+        columnWidths[2] = date;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the ID of the selected {@code Bracket}.
+     *
+     * @return the ID of the selected Bracket, or 0 if none is selected
+     */
+    public int getSelectedId() {
+        return selectedId;
+    }
+
+    /**
+     * Selects the {@code Bracket} with the given ID, highlighting its row.
+     *
+     * @param bracketId the ID of the Bracket to select, or 0 to select none
+     */
+    public void setSelectedId(int bracketId) {
+        selectedId = bracketId;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the number of rows in the table: one per saved {@code Bracket}, padded to
+     * {@code MIN_ROWS}.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int getCount() {
+        return Math.max(count, MIN_ROWS);
+    }
+
+    /**
+     * Returns the page holding the given row, or null if the row is empty.
+     *
+     * @param position the position of the row
+     * @return         the page holding the row, or null
+     */
+    @Override
+    public BracketPage getItem(int position) {
+        BracketPage page = position < count ? pages.get(position / PAGE_SIZE) : null;
+        return page != null && position - page.getOffset() < page.size() ? page : null;
+    }
+
+    /**
+     * Returns the ID of the {@code Bracket} in the given row.
+     *
+     * @param position the position of the row
+     * @return         the Bracket's ID, or 0 if the row is empty
+     */
+    @Override
+    public long getItemId(int position) {
+        BracketPage page = getItem(position);
+        return page == null ? 0 : page.getBracketId(position - page.getOffset());
+    }
+
+    /**
+     * Returns {@code false}, as not every row can be selected.
+     *
+     * @return false
+     */
+    @Override
+    public boolean areAllItemsEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns whether the given row can be selected. Only rows showing a {@code Bracket} can.
+     *
+     * @param position the position of the row
+     * @return         true if the row shows a Bracket
+     */
+    @Override
+    public boolean isEnabled(int position) {
+        return getItem(position) != null;
+    }
+
+    /**
+     * Binds the given row, reusing a row which has scrolled off-screen when there is one. If the
+     * row's page has not arrived, it is queried and the row is shown empty until it does.
+     *
+     * @param position    the position of the row
+     * @param convertView a row which has scrolled off-screen, or null
+     * @param parent      the ListView
+     * @return            the bound row
+     */
+    @Override
+    public View getView(int position, View convertView, ViewGroup parent) {
+        RowViews views;
+        if (convertView == null) {
+            convertView = inflater.inflate(R.layout.comp_saved_bracket_row, parent, false);
+            views = new RowViews();
+            views.name = (TextView) convertView.findViewById(R.id.saved_bracket_name);
+            views.numPlayers = (TextView) convertView.findViewById(R.id.saved_bracket_num_players);
+            views.date = (TextView) convertView.findViewById(R.id.saved_bracket_date);
+            convertView.setTag(views);
+        } else {
+            views = (RowViews) convertView.getTag();
+        }
+
+        if (position < count && pages.get(position / PAGE_SIZE) == null) {
+            requestPage(position / PAGE_SIZE);
+        }
+        BracketPage page = getItem(position);
+        int color = position % 2 == 0 ? columnDark : columnLight;
+        if (page == null) {
+            views.name.setText("");
+            views.numPlayers.setText("");
+            views.date.setText("");
+        } else {
+            int index = position - page.getOffset();
+            if (page.getBracketId(index) == selectedId) {
+                color = columnHighlight;
+            }
+            views.name.setText(page.getBracketName(index));
+            views.numPlayers.setText(String.valueOf(page.getNumPlayers(index)));
+            views.date.setText(page.getBracketDate(index));
+        }
+        bindColumn(views.name, color, columnWidths[0]);
+        bindColumn(views.numPlayers, color, columnWidths[1]);
+        bindColumn(views.date, color, columnWidths[2]);
+        return convertView;
+    }
+
+    /**
+     * Sets the background color and width of a column of a row.
+     *
+     * @param column the TextView of the column
+     * @param color  the background color
+     * @param width  the width of the column, in pixels, or 0 if it is not yet known
+     */
+    private static void bindColumn(TextView column, int color, int width) {
+        column.setBackgroundColor(color);
+        if (width > 0) {
+            column.setWidth(width);
+        }
+    }
+
+    /**
+     * Queries the given page in the background, unless it is already being queried. Once it
+     * arrives, the pages furthest from it are dropped and the rows are bound again.
+     *
+     * @param pageNumber the number of the page
+     */
+    private void requestPage(final int pageNumber) {
+        if (loading.get(pageNumber)) {
+            return;
+        }
+        loading.put(pageNumber, true);
+        final int requested = generation;
+        PersistenceExecutor.read(new Callable<BracketPage>() {
+            @Override
+            public BracketPage call() {
+                return db.getBracketPage(pageNumber * PAGE_SIZE, PAGE_SIZE);
+            }
+        }, new PersistenceExecutor.Callback<BracketPage>() {
+            @Override
+            public void onSuccess(BracketPage result) {
+                if (requested != generation) {
+                    return;
+                }
+                loading.delete(pageNumber);
+                pages.put(pageNumber, result);
+                while (pages.size() > MAX_PAGES) {
+                    int furthest = 0;
+                    for (int i = 1; i < pages.size(); i++) {
+                        if (Math.abs(pages.keyAt(i) - pageNumber) > Math.abs(pages.keyAt(furthest) - pageNumber)) {
+                            furthest = i;
+                        }
+                    }
+                    pages.removeAt(furthest);
+                }
+                notifyDataSetChanged();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (requested == generation) {
+                    loading.delete(pageNumber);
+                }
+            }
+        });
+    }
+}
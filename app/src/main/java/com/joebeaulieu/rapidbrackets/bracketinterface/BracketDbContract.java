@@ -33,6 +33,11 @@ public final class BracketDbContract {
          */
         public static final String TABLE_NAME = "bracket_names";
 
+        /**
+         * A String representation of the unique index on the {@code bracket_name} column.
+         */
+        public static final String INDEX_BRACKET_NAME = "bracket_names_name_index";
+
         /**
          * A String representation of the {@code bracket_id} column. The {@code BracketState}'s
          * {@code bracket_id} variable links to this variable via foreign key.
@@ -58,6 +63,15 @@ public final class BracketDbContract {
          * A String representation of the {@code date_created} column.
          */
         public static final String COLUMN_DATE_CREATED = "date_created";
+
+        /**
+         * A String representation of the {@code snapshot} column. Holds the whole state of an
+         * archived {@code Bracket} as a binary snapshot, or null if its state is held in the
+         * {@code BracketState} table.
+         *
+         * @see com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotWriter BracketSnapshotWriter
+         */
+        public static final String COLUMN_SNAPSHOT = "snapshot";
     }
 
     /**
@@ -71,6 +85,12 @@ public final class BracketDbContract {
          */
         public static final String TABLE_NAME = "bracket_state";
 
+        /**
+         * A String representation of the index on the {@code bracket_id} and {@code position}
+         * columns.
+         */
+        public static final String INDEX_POSITION = "bracket_state_position_index";
+
         /**
          * A String representation of the {@code player_id} column.
          */
@@ -91,5 +111,13 @@ public final class BracketDbContract {
          * A String representation of the {@code tier} column.
          */
         public static final String COLUMN_TIER = "tier";
+
+        /**
+         * A String representation of the {@code position} column. Holds the position of the slot
+         * the row belongs to, as returned by {@code SeatID.getPosition(int)}.
+         *
+         * @see com.joebeaulieu.rapidbrackets.seats.SeatID#getPosition(int) SeatID.getPosition(int)
+         */
+        public static final String COLUMN_POSITION = "position";
     }
 }
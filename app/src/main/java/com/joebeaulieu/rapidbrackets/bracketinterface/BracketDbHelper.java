@@ -4,12 +4,24 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
-import android.view.View;
+import android.database.sqlite.SQLiteStatement;
+
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshot;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotReader;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotWriter;
+import com.joebeaulieu.rapidbrackets.seats.SeatID;
+
+import java.util.HashMap;
 
 /**
  * The helper class that defines and contains all methods relating to the {@code SQLiteDatabase}.
  * This class gets all of the table and column names for the {@code SQLiteDatabase} from
  * {@code BracketDbContract.BracketNames} and {@code BracketDbContract.BracketState}.
+ * <p>
+ * One {@code BracketDbHelper} is shared by the whole process, via {@code getInstance(Context)}, and
+ * keeps its {@code SQLiteDatabase} open for as long as the process lives. The
+ * {@code SQLiteDatabase} is opened with write-ahead logging, so reads are not blocked by a write in
+ * progress, and each compiled statement is cached and reused by every save.
  *
  * @author Joe Beaulieu
  * @version 1.0.1
@@ -21,7 +33,7 @@ public class BracketDbHelper extends SQLiteOpenHelper{
     /**
      * The current version of the {@code SQLiteDatabase}.
      */
-    private static final int DATABASE_VERSION = 1;
+    private static final int DATABASE_VERSION = 3;
 
     /**
      * A pre-defined String for SQL's TEXT type.
@@ -33,6 +45,11 @@ public class BracketDbHelper extends SQLiteOpenHelper{
      */
     private static final String INTEGER_TYPE = " INTEGER";
 
+    /**
+     * A pre-defined String for SQL's BLOB type.
+     */
+    private static final String BLOB_TYPE = " BLOB";
+
     /**
      * A pre-defined String for SQL's NOT NULL type.
       */
@@ -52,7 +69,8 @@ public class BracketDbHelper extends SQLiteOpenHelper{
                               BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + TEXT_TYPE + NOT_NULL + COMMA_SEP +
                               BracketDbContract.BracketNames.COLUMN_ELIM_TYPE + INTEGER_TYPE + NOT_NULL + COMMA_SEP +
                               BracketDbContract.BracketNames.COLUMN_NUM_PLAYERS + INTEGER_TYPE + NOT_NULL + COMMA_SEP +
-                              BracketDbContract.BracketNames.COLUMN_DATE_CREATED + TEXT_TYPE + NOT_NULL +
+                              BracketDbContract.BracketNames.COLUMN_DATE_CREATED + TEXT_TYPE + NOT_NULL + COMMA_SEP +
+                              BracketDbContract.BracketNames.COLUMN_SNAPSHOT + BLOB_TYPE +
             " )";
 
     /**
@@ -60,37 +78,160 @@ public class BracketDbHelper extends SQLiteOpenHelper{
      */
     private static final String SQL_CREATE_BRACKET_STATE_TABLE =
             "CREATE TABLE "  + BracketDbContract.BracketState.TABLE_NAME + " (" +
-                               BracketDbContract.BracketState.COLUMN_PLAYER_ID + TEXT_TYPE + COMMA_SEP +
+                               BracketDbContract.BracketState.COLUMN_PLAYER_ID + INTEGER_TYPE + COMMA_SEP +
                                BracketDbContract.BracketState.COLUMN_PLAYER_NAME + TEXT_TYPE + NOT_NULL + COMMA_SEP +
                                BracketDbContract.BracketState.COLUMN_BRACKET_ID + INTEGER_TYPE + NOT_NULL + COMMA_SEP +
                                BracketDbContract.BracketState.COLUMN_TIER + INTEGER_TYPE + NOT_NULL + COMMA_SEP +
+                               BracketDbContract.BracketState.COLUMN_POSITION + INTEGER_TYPE + NOT_NULL + COMMA_SEP +
             " FOREIGN KEY (" + BracketDbContract.BracketState.COLUMN_BRACKET_ID + ")" +
             " REFERENCES "   + BracketDbContract.BracketNames.TABLE_NAME + "(" + BracketDbContract.BracketNames.COLUMN_BRACKET_ID + ")" +
             " )";
 
     /**
-     * An SQL statement as a pre-defined String which deletes the {@code BracketNames} table if it
-     * exists.
+     * An SQL statement as a pre-defined String which creates a unique index on the {@code BracketNames}
+     * table's {@code bracket_name} column.
+     */
+    private static final String SQL_CREATE_BRACKET_NAME_INDEX =
+            "CREATE UNIQUE INDEX " + BracketDbContract.BracketNames.INDEX_BRACKET_NAME +
+            " ON "                 + BracketDbContract.BracketNames.TABLE_NAME + " (" +
+                                     BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + ")";
+
+    /**
+     * An SQL statement as a pre-defined String which creates an index on the {@code BracketState}
+     * table's {@code bracket_id} and {@code position} columns.
+     */
+    private static final String SQL_CREATE_BRACKET_STATE_INDEX =
+            "CREATE INDEX " + BracketDbContract.BracketState.INDEX_POSITION +
+            " ON "          + BracketDbContract.BracketState.TABLE_NAME + " (" +
+                              BracketDbContract.BracketState.COLUMN_BRACKET_ID + COMMA_SEP +
+                              BracketDbContract.BracketState.COLUMN_POSITION + ")";
+
+    /**
+     * An SQL statement as a pre-defined String which inserts a {@code Bracket} into the
+     * {@code BracketNames} table.
+     */
+    private static final String SQL_INSERT_BRACKET_NAME =
+            "INSERT INTO " + BracketDbContract.BracketNames.TABLE_NAME + " (" +
+                             BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + COMMA_SEP +
+                             BracketDbContract.BracketNames.COLUMN_ELIM_TYPE + COMMA_SEP +
+                             BracketDbContract.BracketNames.COLUMN_NUM_PLAYERS + COMMA_SEP +
+                             BracketDbContract.BracketNames.COLUMN_DATE_CREATED + ") " +
+            "VALUES (?, ?, ?, ?)";
+
+    /**
+     * An SQL statement as a pre-defined String which counts the {@code Bracket}s with a given name.
      */
-    private static final String SQL_DELETE_BRACKET_NAMES_TABLE =
-            "DELETE IF EXISTS " + BracketDbContract.BracketNames.TABLE_NAME;
+    private static final String SQL_COUNT_BRACKET_NAME =
+            "SELECT COUNT(*)" +
+            " FROM "  + BracketDbContract.BracketNames.TABLE_NAME +
+            " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + " = ?";
 
     /**
-     * An SQL statement as a pre-defined String which deletes the {@code BracketState} table if it
-     * exists.
+     * An SQL statement as a pre-defined String which counts every {@code Bracket}.
      */
-    private static final String SQL_DELETE_BRACKET_STATE_TABLE =
-            "DELETE IF EXISTS " + BracketDbContract.BracketState.TABLE_NAME;
+    private static final String SQL_COUNT_BRACKETS =
+            "SELECT COUNT(*)" +
+            " FROM "  + BracketDbContract.BracketNames.TABLE_NAME;
 
     /**
-     * The sole constructor of the {@code BracketDbHelper} class. Sends the calling class's
+     * An SQL statement as a pre-defined String which sets the binary snapshot of a {@code Bracket}.
+     */
+    private static final String SQL_SET_SNAPSHOT =
+            "UPDATE " + BracketDbContract.BracketNames.TABLE_NAME +
+            " SET "   + BracketDbContract.BracketNames.COLUMN_SNAPSHOT + " = ?" +
+            " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_ID + " = ?";
+
+    /**
+     * An SQL statement as a pre-defined String which updates the {@code Seat} at a position of a
+     * {@code Bracket}. Shares its parameter order with {@code SQL_INSERT_SEAT}.
+     */
+    private static final String SQL_UPDATE_SEAT =
+            "UPDATE "      + BracketDbContract.BracketState.TABLE_NAME +
+            " SET "        + BracketDbContract.BracketState.COLUMN_PLAYER_ID + " = ?" + COMMA_SEP +
+                             BracketDbContract.BracketState.COLUMN_PLAYER_NAME + " = ?" + COMMA_SEP +
+                             BracketDbContract.BracketState.COLUMN_TIER + " = ?" +
+            " WHERE "      + BracketDbContract.BracketState.COLUMN_BRACKET_ID + " = ?" +
+            " AND "        + BracketDbContract.BracketState.COLUMN_POSITION + " = ?";
+
+    /**
+     * An SQL statement as a pre-defined String which inserts a {@code Seat} at a position of a
+     * {@code Bracket}. Shares its parameter order with {@code SQL_UPDATE_SEAT}.
+     */
+    private static final String SQL_INSERT_SEAT =
+            "INSERT INTO " + BracketDbContract.BracketState.TABLE_NAME + " (" +
+                             BracketDbContract.BracketState.COLUMN_PLAYER_ID + COMMA_SEP +
+                             BracketDbContract.BracketState.COLUMN_PLAYER_NAME + COMMA_SEP +
+                             BracketDbContract.BracketState.COLUMN_TIER + COMMA_SEP +
+                             BracketDbContract.BracketState.COLUMN_BRACKET_ID + COMMA_SEP +
+                             BracketDbContract.BracketState.COLUMN_POSITION + ") " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * An SQL statement as a pre-defined String which deletes the {@code Seat} at a position of a
+     * {@code Bracket}.
+     */
+    private static final String SQL_DELETE_SEAT =
+            "DELETE FROM " + BracketDbContract.BracketState.TABLE_NAME +
+            " WHERE "      + BracketDbContract.BracketState.COLUMN_BRACKET_ID + " = ?" +
+            " AND "        + BracketDbContract.BracketState.COLUMN_POSITION + " = ?";
+
+    /**
+     * The {@code BracketDbHelper} shared by the whole process, created by the first call to
+     * {@code getInstance(Context)}.
+     */
+    private static BracketDbHelper instance;
+
+    /**
+     * Every statement compiled by {@code statement(String)}, keyed by its SQL. The statements are
+     * never closed, since the {@code SQLiteDatabase} stays open for the life of the process.
+     */
+    private final HashMap<String, SQLiteStatement> statements = new HashMap<>();
+
+    /**
+     * The sole constructor of the {@code BracketDbHelper} class. Sends the application
      * {@code Context}, database name ({@code BracketDbContract.DATABASE_NAME}), and database version
-     * ({@code DATABASE_VERSION})to the {@code SQLiteOpenHelper} class.
+     * ({@code DATABASE_VERSION}) to the {@code SQLiteOpenHelper} class, and turns on write-ahead
+     * logging. Only called by {@code getInstance(Context)}.
      *
-     * @param context the context of the calling Activity
+     * @param context the application Context
      */
-    public BracketDbHelper(Context context) {
+    private BracketDbHelper(Context context) {
         super(context, BracketDbContract.DATABASE_NAME, null, DATABASE_VERSION);
+        setWriteAheadLoggingEnabled(true);
+    }
+
+    /**
+     * Returns the {@code BracketDbHelper} shared by the whole process, creating it on the first
+     * call. It holds the application {@code Context}, never the calling {@code Activity}.
+     *
+     * @param context any Context of the application
+     * @return        the shared BracketDbHelper
+     */
+    public static synchronized BracketDbHelper getInstance(Context context) {
+        if (instance == null) {
+            instance = new BracketDbHelper(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the compiled statement for the given SQL, compiling it on first use. The caller
+     * binds every parameter before executing it. A statement's bindings are shared by every thread,
+     * so writes hold this {@code BracketDbHelper}'s lock, and reads hold the statement's own lock,
+     * while they bind and execute it.
+     *
+     * @param sql one of the pre-defined SQL statements of this class
+     * @return    the compiled statement
+     */
+    private SQLiteStatement statement(String sql) {
+        synchronized (statements) {
+            SQLiteStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = getWritableDatabase().compileStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
     }
 
     /**
@@ -102,38 +243,156 @@ public class BracketDbHelper extends SQLiteOpenHelper{
     public void onCreate(SQLiteDatabase db) {
         db.execSQL(SQL_CREATE_BRACKET_NAME_TABLE);
         db.execSQL(SQL_CREATE_BRACKET_STATE_TABLE);
+        db.execSQL(SQL_CREATE_BRACKET_NAME_INDEX);
+        db.execSQL(SQL_CREATE_BRACKET_STATE_INDEX);
     }
 
     /**
-     * Upgrades the {@code SQLiteDatabase}. This implementation simply wipes the {@code SQLiteDatabase}
-     * and creates a new one. Code will need to be added to migrate the date when a new version of
-     * the {@code SQLiteDatabase} is coded.
+     * Upgrades the {@code SQLiteDatabase} one version at a time, migrating the saved
+     * {@code Bracket}s in place rather than wiping them.
      *
      * @param db         the SQLiteDatabase
      * @param oldVersion the old SQLiteDatabase version number
      * @param newVersion the new SQLiteDatabase version number
+     * @see #upgradeToVersion2(SQLiteDatabase) upgradeToVersion2(SQLiteDatabase)
+     * @see #upgradeToVersion3(SQLiteDatabase) upgradeToVersion3(SQLiteDatabase)
      */
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        db.execSQL(SQL_DELETE_BRACKET_NAMES_TABLE);
-        db.execSQL(SQL_DELETE_BRACKET_STATE_TABLE);
-        onCreate(db);
+        if (oldVersion < 2) {
+            upgradeToVersion2(db);
+        }
+        if (oldVersion < 3) {
+            upgradeToVersion3(db);
+        }
     }
 
     /**
-     * Called when the {@code SQLiteDatabase} is opened. If the {@code SQLiteDatabase} is not read-only,
-     * foreign key constraints are turned on with {@code PRAGMA foreign_keys = ON}.
+     * Rebuilds the {@code BracketState} table with an {@code INTEGER} {@code player_id} column and
+     * a {@code position} column. Every saved ID is rewritten as a packed ID, converting any saved
+     * before IDs were packed, and its position is filled in from it. Then the indexes are created.
+     * Should two {@code Bracket}s share a name, every one but the first is renamed so that none are
+     * lost to the unique index.
      *
      * @param db the SQLiteDatabase
+     * @see com.joebeaulieu.rapidbrackets.seats.SeatID#fromString(String, int) SeatID.fromString(String, int)
+     * @see #renameDuplicateBrackets(SQLiteDatabase) renameDuplicateBrackets(SQLiteDatabase)
      */
-    @Override
-    public void onOpen(SQLiteDatabase db) {
-        super.onOpen(db);
-        if (!db.isReadOnly()) {
-            db.execSQL("PRAGMA foreign_keys = ON");
+    private void upgradeToVersion2(SQLiteDatabase db) {
+        // SQLite cannot change the type of a column, so the
+        // table is recreated and the old one copied into it
+        String oldTable = BracketDbContract.BracketState.TABLE_NAME + "_v1";
+        db.execSQL(
+                "ALTER TABLE " + BracketDbContract.BracketState.TABLE_NAME +
+                " RENAME TO "  + oldTable);
+        db.execSQL(SQL_CREATE_BRACKET_STATE_TABLE);
+        Cursor result = db.rawQuery(
+                "SELECT "       + BracketDbContract.BracketState.COLUMN_PLAYER_ID + COMMA_SEP +
+                                  BracketDbContract.BracketState.COLUMN_PLAYER_NAME + COMMA_SEP +
+                                  BracketDbContract.BracketState.COLUMN_BRACKET_ID + COMMA_SEP +
+                                  BracketDbContract.BracketState.COLUMN_TIER +
+                " FROM "        + oldTable, null);
+        SQLiteStatement insert = db.compileStatement(
+                "INSERT INTO "  + BracketDbContract.BracketState.TABLE_NAME + " (" +
+                                  BracketDbContract.BracketState.COLUMN_PLAYER_ID + COMMA_SEP +
+                                  BracketDbContract.BracketState.COLUMN_PLAYER_NAME + COMMA_SEP +
+                                  BracketDbContract.BracketState.COLUMN_BRACKET_ID + COMMA_SEP +
+                                  BracketDbContract.BracketState.COLUMN_TIER + COMMA_SEP +
+                                  BracketDbContract.BracketState.COLUMN_POSITION + ") " +
+                "VALUES (?, ?, ?, ?, ?)");
+        try {
+            while (result.moveToNext()) {
+                int id = SeatID.fromString(result.getString(0), result.getInt(3));
+                insert.bindLong(1, id);
+                insert.bindString(2, result.getString(1));
+                insert.bindLong(3, result.getLong(2));
+                insert.bindLong(4, result.getLong(3));
+                insert.bindLong(5, SeatID.getPosition(id));
+                insert.executeInsert();
+            }
+        } finally {
+            insert.close();
+            result.close();
+        }
+        db.execSQL("DROP TABLE " + oldTable);
+
+        renameDuplicateBrackets(db);
+        db.execSQL(SQL_CREATE_BRACKET_NAME_INDEX);
+        db.execSQL(SQL_CREATE_BRACKET_STATE_INDEX);
+    }
+
+    /**
+     * Renames every {@code Bracket} but the first of each name shared by several, appending its ID
+     * to its name. Should that name be taken too, a counter is appended after the ID until the
+     * name is unique, so the unique index on {@code bracket_name} can always be created.
+     *
+     * @param db the SQLiteDatabase
+     */
+    private void renameDuplicateBrackets(SQLiteDatabase db) {
+        Cursor duplicates = db.rawQuery(
+                "SELECT "          + BracketDbContract.BracketNames.COLUMN_BRACKET_ID + COMMA_SEP +
+                                     BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
+                " FROM "           + BracketDbContract.BracketNames.TABLE_NAME +
+                " WHERE "          + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
+                " NOT IN (SELECT MIN(" + BracketDbContract.BracketNames.COLUMN_BRACKET_ID + ")" +
+                " FROM "           + BracketDbContract.BracketNames.TABLE_NAME +
+                " GROUP BY "       + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + ")", null);
+        SQLiteStatement count = db.compileStatement(SQL_COUNT_BRACKET_NAME);
+        SQLiteStatement rename = db.compileStatement(
+                "UPDATE "          + BracketDbContract.BracketNames.TABLE_NAME +
+                " SET "            + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + " = ?" +
+                " WHERE "          + BracketDbContract.BracketNames.COLUMN_BRACKET_ID + " = ?");
+        try {
+            while (duplicates.moveToNext()) {
+                int bracketId = duplicates.getInt(0);
+                String base = duplicates.getString(1) + " (" + bracketId + ")";
+                String name = base;
+                // every name is checked against the table as it stands,
+                // including the Brackets already renamed
+                for (int i = 2; ; i++) {
+                    count.bindString(1, name);
+                    if (count.simpleQueryForLong() == 0) {
+                        break;
+                    }
+                    name = base + " (" + i + ")";
+                }
+                rename.bindString(1, name);
+                rename.bindLong(2, bracketId);
+                rename.executeUpdateDelete();
+            }
+        } finally {
+            rename.close();
+            count.close();
+            duplicates.close();
         }
     }
 
+    /**
+     * Adds the {@code snapshot} column to the {@code BracketNames} table. Every saved
+     * {@code Bracket} keeps its state in the {@code BracketState} table, so the column starts out
+     * null.
+     *
+     * @param db the SQLiteDatabase
+     */
+    private void upgradeToVersion3(SQLiteDatabase db) {
+        db.execSQL(
+                "ALTER TABLE " + BracketDbContract.BracketNames.TABLE_NAME +
+                " ADD COLUMN " + BracketDbContract.BracketNames.COLUMN_SNAPSHOT + BLOB_TYPE);
+    }
+
+    /**
+     * Called when a connection to the {@code SQLiteDatabase} is configured, before it is created,
+     * upgraded, or opened. Turns on foreign key constraints for every connection in the pool,
+     * rather than only the one {@code onOpen(SQLiteDatabase)} is called with.
+     *
+     * @param db the SQLiteDatabase
+     */
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        super.onConfigure(db);
+        db.setForeignKeyConstraintsEnabled(true);
+    }
+
     /**
      * Checks to see if a {@code Bracket} with the given name exists in the {@code SQLiteDatabase}.
      * Returns {@code true} if it does, and {@code false} if it does not.
@@ -142,33 +401,35 @@ public class BracketDbHelper extends SQLiteOpenHelper{
      * @return            a boolean value representing whether or not the Bracket exists
      */
     public boolean doesBracketExist(String bracketName) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME +
-                " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
-                " = ?"    , new String[]{bracketName});
-        int resCount = result.getCount();
-        result.close();
-        return (resCount != 0);
+        SQLiteStatement count = statement(SQL_COUNT_BRACKET_NAME);
+        synchronized (count) {
+            count.bindString(1, bracketName);
+            return count.simpleQueryForLong() != 0;
+        }
     }
 
     /**
      * Deletes the {@code Bracket} from the {@code SQLiteDatabase} with the given ID. Uses the
      * {@code deleteBracketState(int)} method to delete the {@code Bracket} state from the
      * {@code BracketState} table, and then deletes the {@code Bracket} name, and other associated
-     * meta-data from the {@code BracketNames} table.
+     * meta-data from the {@code BracketNames} table, inside one transaction.
      *
      * @param bracketId the Bracket's ID
      * @see #deleteBracketState(int) deleteBracketState(int)
      */
-    public void deleteBracket(int bracketId) {
+    public synchronized void deleteBracket(int bracketId) {
         SQLiteDatabase db = this.getWritableDatabase();
-        deleteBracketState(bracketId);
-        db.execSQL(
-                "DELETE FROM " + BracketDbContract.BracketNames.TABLE_NAME +
-                " WHERE "      + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
-                " = "          + bracketId);
+        db.beginTransaction();
+        try {
+            deleteBracketState(bracketId);
+            db.execSQL(
+                    "DELETE FROM " + BracketDbContract.BracketNames.TABLE_NAME +
+                    " WHERE "      + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
+                    " = "          + bracketId);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
     }
 
     /**
@@ -184,26 +445,6 @@ public class BracketDbHelper extends SQLiteOpenHelper{
                 " = "          + bracketId);
     }
 
-    /**
-     * Deletes the state of the {@code Bracket} from the {@code BracketState} table.
-     *
-     * Note: The {@code NewBracket} class's {@code createBracket(View)} method ensures that no two
-     * {@code Bracket}s are created with the same name.
-     *
-     * @param bracketName a String representation of the Bracket's name
-     * @see com.joebeaulieu.rapidbrackets.activities.NewBracket#createBracket(View) NewBracket.createBracket(View)
-     */
-    public void deleteBracketState(String bracketName) {
-        SQLiteDatabase db = this.getWritableDatabase();
-        db.execSQL(
-                "DELETE FROM " + BracketDbContract.BracketState.TABLE_NAME +
-                " WHERE "      + BracketDbContract.BracketState.COLUMN_BRACKET_ID +
-                " = (SELECT "  + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
-                " FROM "       + BracketDbContract.BracketNames.TABLE_NAME +
-                " WHERE "      + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
-                " = ? )"       , new String[]{bracketName});
-    }
-
     /**
      * Creates a new {@code Bracket}, excluding state, in the {@code BracketNames} table along with
      * its associated meta-data.
@@ -213,245 +454,271 @@ public class BracketDbHelper extends SQLiteOpenHelper{
      *                    BracketInterface.DOUBLE_ELIM
      * @param numPlayers  the number of Players in the Bracket, not including Byes
      * @param dateCreated a String representation of the date the Bracket was created
+     * @return            the ID of the newly created Bracket
      * @see BracketInterface#SINGLE_ELIM BracketInterface.SINGLE_ELIM
      * @see BracketInterface#DOUBLE_ELIM BracketInterface.DOUBLE_ELIM
      */
-    public void insertBracketName(String bracketName, int elimType, int numPlayers, String dateCreated) {
-        SQLiteDatabase db = this.getWritableDatabase();
-        db.execSQL(
-                "INSERT INTO " + BracketDbContract.BracketNames.TABLE_NAME + " (" +
-                                 BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + COMMA_SEP +
-                                 BracketDbContract.BracketNames.COLUMN_ELIM_TYPE + COMMA_SEP +
-                                 BracketDbContract.BracketNames.COLUMN_NUM_PLAYERS + COMMA_SEP +
-                                 BracketDbContract.BracketNames.COLUMN_DATE_CREATED + ") " +
-                "VALUES (?, " + elimType + ", " + numPlayers + ", ?)", new String[]{bracketName, dateCreated});
+    public synchronized long insertBracketName(String bracketName, int elimType, int numPlayers, String dateCreated) {
+        SQLiteStatement insert = statement(SQL_INSERT_BRACKET_NAME);
+        insert.bindString(1, bracketName);
+        insert.bindLong(2, elimType);
+        insert.bindLong(3, numPlayers);
+        insert.bindString(4, dateCreated);
+        return insert.executeInsert();
     }
 
     /**
-     * Inserts a deconstructed {@code Seat} {@code Object} into the {@code SQLiteDatabase}.
+     * Stores the changed slots of a deconstructed {@code Bracket} in the {@code SQLiteDatabase}.
+     * The {@code Bracket} is created in the {@code BracketNames} table if it does not yet exist,
+     * and if it was archived as a binary snapshot, its state is moved back into the
+     * {@code BracketState} table first.
+     * Each slot's row is found by bracket ID and position: it is updated if it exists, inserted if
+     * it does not, and deleted if the slot is now empty. The bracket ID is resolved once, the
+     * cached statements are reused for every slot, and all of this happens inside one
+     * transaction, so the save is committed, and synced to disk, exactly once.
      *
      * @param bracketName a String representation of the Bracket's name
-     * @param id          a String representation of the Player's ID
-     * @param name        a String representation of the Player's name
-     * @param tier        the tier of the Bracket the given Player currently resides in
+     * @param elimType    the elimination type. Either BracketInterface.SINGLE_ELIM or
+     *                    BracketInterface.DOUBLE_ELIM
+     * @param numPlayers  the number of Players in the Bracket, not including Byes
+     * @param dateCreated a String representation of the date the Bracket was created
+     * @param seatNames   the names of the Seats in the changed slots, parallel to seatIds. A null
+     *                    name marks a slot which is now empty
+     * @param seatIds     the packed IDs of the changed slots, parallel to seatNames
+     * @see com.joebeaulieu.rapidbrackets.seats.SeatID#getPosition(int) SeatID.getPosition(int)
      */
-    public void insertPlayer(String bracketName, String id, String name, int tier) {
+    public synchronized void storeBracket(String bracketName, int elimType, int numPlayers, String dateCreated,
+                                          String[] seatNames, int[] seatIds) {
         SQLiteDatabase db = this.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            // resolve the Bracket ID once, creating the Bracket if need be
+            long bracketId;
+            byte[] archived = null;
+            Cursor result = db.rawQuery(
+                    "SELECT " + BracketDbContract.BracketNames.COLUMN_BRACKET_ID + COMMA_SEP +
+                                BracketDbContract.BracketNames.COLUMN_SNAPSHOT +
+                    " FROM "  + BracketDbContract.BracketNames.TABLE_NAME +
+                    " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
+                    " = ?"    , new String[]{bracketName});
+            try {
+                bracketId = result.moveToFirst() ? result.getLong(0) : -1;
+                if (bracketId != -1 && !result.isNull(1)) {
+                    archived = result.getBlob(1);
+                }
+            } finally {
+                result.close();
+            }
+            if (bracketId == -1) {
+                bracketId = insertBracketName(bracketName, elimType, numPlayers, dateCreated);
+            }
 
-        // get Bracket ID
-        Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME +
-                " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
-                " = ?"    , new String[]{bracketName});
-        result.moveToFirst();
-        int bracketID = result.getInt(0);
-
-        // insert Player into Bracket
-        db.execSQL(
-                "INSERT INTO " + BracketDbContract.BracketState.TABLE_NAME + " (" +
-                                 BracketDbContract.BracketState.COLUMN_PLAYER_ID + COMMA_SEP +
-                                 BracketDbContract.BracketState.COLUMN_PLAYER_NAME + COMMA_SEP +
-                                 BracketDbContract.BracketState.COLUMN_BRACKET_ID + COMMA_SEP +
-                                 BracketDbContract.BracketState.COLUMN_TIER + ") " +
-                "VALUES (?, ?, " + bracketID + COMMA_SEP + tier + ")", new String[] {id, name});
-        result.close();
-    }
-
-    /**
-     * Returns a {@code String[]} containing the saved state of the {@code Bracket} in terms of
-     * {@code Player} names.
-     *
-     * @param bracketId the Bracket's ID
-     * @return          a String[] containing the state of the Bracket in terms of Player names
-     */
-    public String[] getSeatNameState(int bracketId) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT "     + BracketDbContract.BracketState.COLUMN_PLAYER_NAME +
-                " FROM "      + BracketDbContract.BracketState.TABLE_NAME +
-                " WHERE "     + BracketDbContract.BracketState.COLUMN_BRACKET_ID +
-                " = "         + bracketId, null);
-        String[] playerStates = new String[result.getCount()];
-        int count = 0;
-        while (result.moveToNext()) {
-            playerStates[count] = result.getString(0);
-            count++;
+            // upsert or delete every changed slot through the cached statements
+            SQLiteStatement update = statement(SQL_UPDATE_SEAT);
+            SQLiteStatement insert = statement(SQL_INSERT_SEAT);
+            SQLiteStatement delete = statement(SQL_DELETE_SEAT);
+            // an archived Bracket's state is moved back into the BracketState
+            // table first, so the slots which have not changed are kept
+            if (archived != null) {
+                BracketSnapshot snapshot = BracketSnapshotReader.read(archived);
+                for (int i = 0; i < snapshot.size(); i++) {
+                    bindSeat(insert, snapshot.getSeatIds()[i], snapshot.getSeatNames()[i], bracketId);
+                    insert.executeInsert();
+                }
+                setSnapshot(bracketId, null);
+            }
+            for (int i = 0; i < seatIds.length; i++) {
+                if (seatNames[i] == null) {
+                    delete.bindLong(1, bracketId);
+                    delete.bindLong(2, SeatID.getPosition(seatIds[i]));
+                    delete.executeUpdateDelete();
+                } else {
+                    bindSeat(update, seatIds[i], seatNames[i], bracketId);
+                    if (update.executeUpdateDelete() == 0) {
+                        bindSeat(insert, seatIds[i], seatNames[i], bracketId);
+                        insert.executeInsert();
+                    }
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
-        result.close();
-        return playerStates;
     }
 
     /**
-     * Returns a {@code String[]} containing the saved state of the {@code Bracket} in terms of
-     * {@code Player} IDs.
+     * Archives a {@code Bracket} as a single binary snapshot in the {@code BracketNames} table,
+     * creating the {@code Bracket} if it does not yet exist. Its rows in the {@code BracketState}
+     * table are deleted, so the snapshot is the only copy of its state. Everything happens inside
+     * one transaction.
      *
-     * @param bracketId the Bracket's ID
-     * @return          a String[] containing the state of the Bracket in terms of Player IDs
+     * @param snapshot   the whole state of the Bracket
+     * @param numPlayers the number of Players in the Bracket, not including Byes
+     * @see com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotWriter BracketSnapshotWriter
      */
-    public String[] getSeatIdState(int bracketId) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT "     + BracketDbContract.BracketState.COLUMN_PLAYER_ID +
-                " FROM "      + BracketDbContract.BracketState.TABLE_NAME +
-                " WHERE "     + BracketDbContract.BracketState.COLUMN_BRACKET_ID +
-                " = "         + bracketId, null);
-        String[] idStates = new String[result.getCount()];
-        int count = 0;
-        while (result.moveToNext()) {
-            idStates[count] = result.getString(0);
-            count++;
+    public synchronized void storeBracketSnapshot(BracketSnapshot snapshot, int numPlayers) {
+        byte[] bytes = BracketSnapshotWriter.write(snapshot);
+        SQLiteDatabase db = this.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            long bracketId;
+            Cursor result = db.rawQuery(
+                    "SELECT " + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
+                    " FROM "  + BracketDbContract.BracketNames.TABLE_NAME +
+                    " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
+                    " = ?"    , new String[]{snapshot.getName()});
+            try {
+                bracketId = result.moveToFirst() ? result.getLong(0) : -1;
+            } finally {
+                result.close();
+            }
+            if (bracketId == -1) {
+                bracketId = insertBracketName(snapshot.getName(), snapshot.getElimType(), numPlayers, snapshot.getDateCreated());
+            } else {
+                deleteBracketState((int) bracketId);
+            }
+            setSnapshot(bracketId, bytes);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
-        result.close();
-        return idStates;
     }
 
     /**
-     * Returns an {@code int[]} containing the saved state of the {@code Bracket} in terms of
-     * {@code Player} tiers.
+     * Sets, or clears, the binary snapshot of the {@code Bracket} with the given ID.
      *
      * @param bracketId the Bracket's ID
-     * @return          an int[] containing the state of the Bracket in terms of Player tiers
-     */
-    public int[] getSeatTierState(int bracketId) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT "     + BracketDbContract.BracketState.COLUMN_TIER +
-                " FROM "      + BracketDbContract.BracketState.TABLE_NAME +
-                " WHERE "     + BracketDbContract.BracketState.COLUMN_BRACKET_ID +
-                " = "         + bracketId, null);
-        int[] idStates = new int[result.getCount()];
-        int count = 0;
-        while (result.moveToNext()) {
-            idStates[count] = result.getInt(0);
-            count++;
-        }
-        result.close();
-        return idStates;
-    }
-
-    /**
-     * Returns an {@code int[]} containing all of the {@code Bracket} IDs in the {@code SQLiteDatabase}.
-     *
-     * @return an int[] containing all of the Bracket IDs in the SQLiteDatabase
-     */
-    public int[] getAllBracketIds() {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME, null);
-        int[] bracketIds = new int[result.getCount()];
-        int count = 0;
-        while (result.moveToNext()) {
-            bracketIds[count] = result.getInt(0);
-            count++;
-        }
-        result.close();
-        return bracketIds;
-    }
-
-    /**
-     * Returns a {@code String[]} containing all of the {@code Bracket} names in the {@code SQLiteDatabase}.
-     *
-     * @return a String[] containing all of the Bracket names in the SQLiteDatabase
+     * @param bytes     the binary snapshot, or null to clear it
      */
-    public String[] getAllBracketNames() {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME, null);
-        String[] bracketNames = new String[result.getCount()];
-        int count = 0;
-        while (result.moveToNext()) {
-            bracketNames[count] = result.getString(0);
-            count++;
+    private synchronized void setSnapshot(long bracketId, byte[] bytes) {
+        SQLiteStatement update = statement(SQL_SET_SNAPSHOT);
+        if (bytes == null) {
+            update.bindNull(1);
+        } else {
+            update.bindBlob(1, bytes);
         }
-        result.close();
-        return bracketNames;
+        update.bindLong(2, bracketId);
+        update.executeUpdateDelete();
     }
 
     /**
-     * Returns a {@code String} representation of the {@code Bracket} name associated with the given
-     * {@code Bracket} ID.
+     * Binds a {@code Seat} to the UPDATE or INSERT statement of {@code storeBracket}, which share
+     * their parameter order: ID, name, tier, bracket ID, then position.
      *
+     * @param statement the compiled statement
+     * @param id        the packed ID of the Seat's slot
+     * @param name      the name of the Seat
      * @param bracketId the Bracket's ID
-     * @return          a String representation of the Bracket's name
+     * @see #storeBracket(String, int, int, String, String[], int[]) storeBracket(String, int, int, String, String[], int[])
      */
-    public String getBracketName(int bracketId) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME +
-                " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
-                " = "     + bracketId, null);
-        result.moveToFirst();
-        String bracketName = result.getString(0);
-        result.close();
-        return bracketName;
+    private static void bindSeat(SQLiteStatement statement, int id, String name, long bracketId) {
+        statement.bindLong(1, id);
+        statement.bindString(2, name);
+        statement.bindLong(3, SeatID.getTier(id));
+        statement.bindLong(4, bracketId);
+        statement.bindLong(5, SeatID.getPosition(id));
     }
 
     /**
-     * Returns an {@code int[]} containing the number of {@code Player}s, not including {@code Bye}s,
-     * for every {@code Bracket} in the {@code SQLiteDatabase}.
+     * Returns the saved {@code Bracket} with the given ID as a {@code BracketSnapshot}. The
+     * {@code Bracket}'s metadata and every saved slot are read by a single query joining the
+     * {@code BracketNames} and {@code BracketState} tables, ordered by position, in one pass of the
+     * {@code Cursor}. An archived {@code Bracket} is instead decoded from its binary snapshot.
      *
-     * @return an int[] containing the number of Players, not including Byes, for every Bracket in
-     *         the SQLiteDatabase
+     * @param bracketId the Bracket's ID
+     * @return          the saved state of the Bracket, or null if no Bracket has the given ID
+     * @see BracketSnapshot BracketSnapshot
      */
-    public int[] getAllNumPlayers() {
+    public BracketSnapshot getBracketSnapshot(int bracketId) {
         SQLiteDatabase db = this.getReadableDatabase();
         Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_NUM_PLAYERS +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME, null);
-        int[] allNumPlayers = new int[result.getCount()];
-        int count = 0;
-        while (result.moveToNext()) {
-            allNumPlayers[count] = result.getInt(0);
-            count++;
+                "SELECT "        + "n." + BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + COMMA_SEP +
+                                   "n." + BracketDbContract.BracketNames.COLUMN_ELIM_TYPE + COMMA_SEP +
+                                   "n." + BracketDbContract.BracketNames.COLUMN_DATE_CREATED + COMMA_SEP +
+                                   "n." + BracketDbContract.BracketNames.COLUMN_SNAPSHOT + COMMA_SEP +
+                                   "s." + BracketDbContract.BracketState.COLUMN_PLAYER_NAME + COMMA_SEP +
+                                   "s." + BracketDbContract.BracketState.COLUMN_PLAYER_ID +
+                " FROM "         + BracketDbContract.BracketNames.TABLE_NAME + " n" +
+                " LEFT JOIN "    + BracketDbContract.BracketState.TABLE_NAME + " s" +
+                " ON s."         + BracketDbContract.BracketState.COLUMN_BRACKET_ID +
+                " = n."          + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
+                " WHERE n."      + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
+                " = "            + bracketId +
+                " ORDER BY s."   + BracketDbContract.BracketState.COLUMN_POSITION, null);
+        try {
+            if (!result.moveToFirst()) {
+                return null;
+            }
+            // an archived Bracket has no BracketState rows, so
+            // its snapshot is read from the single joined row
+            if (!result.isNull(3)) {
+                return BracketSnapshotReader.read(result.getBlob(3));
+            }
+            String bracketName = result.getString(0);
+            int elimType = result.getInt(1);
+            String dateCreated = result.getString(2);
+            // a Bracket with no saved state still yields one row, with null state columns
+            int count = result.isNull(4) ? 0 : result.getCount();
+            String[] seatNames = new String[count];
+            int[] seatIds = new int[count];
+            for (int i = 0; i < count; i++, result.moveToNext()) {
+                seatNames[i] = result.getString(4);
+                seatIds[i] = result.getInt(5);
+            }
+            return new BracketSnapshot(bracketName, elimType, dateCreated, seatNames, seatIds);
+        } finally {
+            result.close();
         }
-        result.close();
-        return allNumPlayers;
     }
 
     /**
-     * Returns a {@code String[]} containing the date created for every {@code Bracket} in the
-     * {@code SQLiteDatabase}.
+     * Returns the number of {@code Bracket}s in the {@code SQLiteDatabase}.
      *
-     * @return a String[] containing the date created for every Bracket in the SQLiteDatabase
+     * @return the number of saved Brackets
      */
-    public String[] getAllBracketDates() {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_DATE_CREATED +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME, null);
-        String[] bracketDates = new String[result.getCount()];
-        int count = 0;
-        while (result.moveToNext()) {
-            bracketDates[count] = result.getString(0);
-            count++;
+    public int getBracketCount() {
+        SQLiteStatement count = statement(SQL_COUNT_BRACKETS);
+        synchronized (count) {
+            return (int) count.simpleQueryForLong();
         }
-        result.close();
-        return bracketDates;
     }
 
     /**
-     * Returns the elimination type for the {@code Bracket} associated with the given {@code Bracket}
-     * ID. Can be either {@code BracketInterface.SINGLE_ELIM} or {@code BracketInterface.DOUBLE_ELIM}.
+     * Returns one page of the saved {@code Bracket}s, ordered by ID, with a single query. Only the
+     * columns the "Load" screen lists are read, and the {@code BracketNames} table is walked in
+     * the order of its primary key, so no sort is needed.
      *
-     * @param bracketId the Bracket's ID
-     * @return          the elimination type for the Bracket associated with the given ID
-     * @see BracketInterface#SINGLE_ELIM BracketInterface.SINGLE_ELIM
-     * @see BracketInterface#DOUBLE_ELIM BracketInterface.DOUBLE_ELIM
+     * @param offset the position of the first Bracket on the page
+     * @param limit  the largest number of Brackets on the page
+     * @return       the page, which holds fewer than limit Brackets at the end of the list
+     * @see BracketPage BracketPage
      */
-    public int getBracketElimType(int bracketId) {
+    public BracketPage getBracketPage(int offset, int limit) {
         SQLiteDatabase db = this.getReadableDatabase();
         Cursor result = db.rawQuery(
-                "SELECT " + BracketDbContract.BracketNames.COLUMN_ELIM_TYPE +
-                " FROM "  + BracketDbContract.BracketNames.TABLE_NAME +
-                " WHERE " + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
-                " = "     + bracketId, null);
-        result.moveToFirst();
-        int elimType = result.getInt(0);
-        result.close();
-        return elimType;
+                "SELECT "     + BracketDbContract.BracketNames.COLUMN_BRACKET_ID + COMMA_SEP +
+                                BracketDbContract.BracketNames.COLUMN_BRACKET_NAME + COMMA_SEP +
+                                BracketDbContract.BracketNames.COLUMN_NUM_PLAYERS + COMMA_SEP +
+                                BracketDbContract.BracketNames.COLUMN_DATE_CREATED +
+                " FROM "      + BracketDbContract.BracketNames.TABLE_NAME +
+                " ORDER BY "  + BracketDbContract.BracketNames.COLUMN_BRACKET_ID +
+                " LIMIT "     + limit +
+                " OFFSET "    + offset, null);
+        try {
+            int count = result.getCount();
+            int[] bracketIds = new int[count];
+            String[] bracketNames = new String[count];
+            int[] numPlayers = new int[count];
+            String[] bracketDates = new String[count];
+            for (int i = 0; result.moveToNext(); i++) {
+                bracketIds[i] = result.getInt(0);
+                bracketNames[i] = result.getString(1);
+                numPlayers[i] = result.getInt(2);
+                bracketDates[i] = result.getString(3);
+            }
+            return new BracketPage(offset, bracketIds, bracketNames, numPlayers, bracketDates);
+        } finally {
+            result.close();
+        }
     }
 }
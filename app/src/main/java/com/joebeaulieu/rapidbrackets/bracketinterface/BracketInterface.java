@@ -1,19 +1,20 @@
 package com.joebeaulieu.rapidbrackets.bracketinterface;
 
 import android.content.Context;
-import android.widget.LinearLayout;
 
+import com.joebeaulieu.rapidbrackets.activities.R;
+import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
 import com.joebeaulieu.rapidbrackets.bracketds.BracketFactory;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshot;
 import com.joebeaulieu.rapidbrackets.exceptions.BracketNotCreatedException;
 import com.joebeaulieu.rapidbrackets.exceptions.InvalidElimTypeException;
 
-import java.util.ArrayList;
-
 /**
  * The class that the client code uses to interact with the {@code Bracket}. This is an adapter class
  * at the top level of the underlying command design pattern. It is between the client code and the
  * {@code Invoker}, and in some cases the client code and the {@code BracketFactory}. This class further
- * decouples the client from the underlying structure.
+ * decouples the client from the underlying structure. Its constants mirror those of the
+ * {@code Bracket} interface, which lives in the {@code bracket-core} module.
  *
  * @author Joe Beaulieu
  * @version 1.0.1
@@ -24,33 +25,34 @@ import java.util.ArrayList;
 public class BracketInterface {
     /**
      * The {@code Invoker} the {@code BracketInterface} class uses to invoke {@code Command}s.
+     * Volatile, as the {@code Bracket} may be created on the {@code BracketWorker}'s thread.
      */
-    private static Invoker invoker = new Invoker();
+    private static volatile Invoker invoker = new Invoker();
 
     /**
      * Used to denote a single elimination {@code Bracket}.
      */
-    public static final int SINGLE_ELIM = 0;
+    public static final int SINGLE_ELIM = Bracket.SINGLE_ELIM;
 
     /**
      * Used to denote a double elimination {@code Bracket}.
      */
-    public static final int DOUBLE_ELIM = 1;
+    public static final int DOUBLE_ELIM = Bracket.DOUBLE_ELIM;
 
     /**
      * Used to denote {@code Player}s in the Winners' {@code Bracket} tier.
      */
-    public static final int WINNERS_BRACKET = 0;
+    public static final int WINNERS_BRACKET = Bracket.WINNERS_BRACKET;
 
     /**
      * Used to denote {@code Player}s in the Losers' {@code Bracket} tier.
      */
-    public static final int LOSERS_BRACKET = 1;
+    public static final int LOSERS_BRACKET = Bracket.LOSERS_BRACKET;
 
     /**
      * Used to denote {@code Player}s in the Finalists' sub-{@code Bracket} tier.
       */
-    public static final int FINALISTS_SUBBRACKET = 2;
+    public static final int FINALISTS_SUBBRACKET = Bracket.FINALISTS_SUBBRACKET;
 
     /**
      * Creates a new {@code Invoker} instance which is passed a new {@code Bracket}, created by the
@@ -90,16 +92,10 @@ public class BracketInterface {
      * @param seatNameState a String[] which represents the currently saved state of the Bracket. It
      *                      contains a Seat name for each slot that is occupied in the Bracket. This
      *                      array does not contain information on the empty places in the Bracket
-     * @param seatIdState   a String[] which represents the ids of each Seat in the Bracket. The ids
-     *                      are of the format: L##, where L is a letter denoting the Seat type, and
-     *                      ## are the column and row numbers respectively. L can either be "p", "r",
-     *                      or "b" for Player, Remnant, or Bye respectively. The index of each id is
-     *                      the index of its corresponding Seat in the playerState array
-     * @param seatTierState an int[] which represents the sub-Bracket where each Seat is located. The
-     *                      values can be either BracketInterface.WINNERS_BRACKET,
-     *                      BracketInterface.LOSERS_BRACKET, or BracketInterface.FINALISTS_SUBBRACKET.
-     *                      The index of each tier is the index of its corresponding Seat in the
-     *                      playerState array
+     * @param seatIdState   an int[] which represents the packed IDs of each Seat in the Bracket.
+     *                      Each ID holds the Seat's type, its tier, and the column and row of its
+     *                      position, as encoded by SeatID. The index of each ID is the index of its
+     *                      corresponding Seat in the seatNameState array
      * @throws InvalidElimTypeException thrown when the elimination type is not found in the
      *         BracketInterface class
      * @see #SINGLE_ELIM          SINGLE_ELIM
@@ -108,25 +104,78 @@ public class BracketInterface {
      * @see #LOSERS_BRACKET       LOSERS_BRACKET
      * @see #FINALISTS_SUBBRACKET FINALISTS_SUBBRACKET
      */
-    public static void recreateBracket(int type, String name, String dateCreated, String[] seatNameState, String[] seatIdState, int[] seatTierState) throws InvalidElimTypeException{
+    public static void recreateBracket(int type, String name, String dateCreated, String[] seatNameState, int[] seatIdState) throws InvalidElimTypeException{
         switch (type) {
-            case SINGLE_ELIM: invoker = new Invoker(BracketFactory.getBracket(SINGLE_ELIM, name, dateCreated, seatNameState, seatIdState, seatTierState)); break;
-            // case DOUBLE_ELIM: invoker = new Invoker(BracketFactory.getBracket(DOUBLE_ELIM, name, dateCreated, seatNameState, seatIdState, seatTierState)); break;
+            case SINGLE_ELIM: invoker = new Invoker(BracketFactory.getBracket(SINGLE_ELIM, name, dateCreated, seatNameState, seatIdState)); break;
+            // case DOUBLE_ELIM: invoker = new Invoker(BracketFactory.getBracket(DOUBLE_ELIM, name, dateCreated, seatNameState, seatIdState)); break;
             default: throw new InvalidElimTypeException(type + "is not a valid bracket elimination type");
         }
     }
 
     /**
-     * Creates the {@code Bracket} UI, adds it to the target {@code LinearLayout}, and displays it
-     * on-screen.
+     * Creates a new {@code Invoker} instance which is passed a new {@code Bracket}, recreated by the
+     * {@code BracketFactory} from a {@code BracketSnapshot}, as a parameter.
      *
-     * @param context the Context from which this method was called
-     * @param layout  the LinearLayout in which this Bracket UI is to be created
+     * @param snapshot the saved state of the Bracket, as loaded from the SQLiteDatabase
+     * @throws InvalidElimTypeException thrown when the elimination type is not found in the
+     *         BracketInterface class
+     * @see BracketDbHelper#getBracketSnapshot(int) BracketDbHelper.getBracketSnapshot(int)
+     */
+    public static void recreateBracket(BracketSnapshot snapshot) throws InvalidElimTypeException{
+        switch (snapshot.getElimType()) {
+            case SINGLE_ELIM: invoker = new Invoker(BracketFactory.getBracket(snapshot)); break;
+            default: throw new InvalidElimTypeException(snapshot.getElimType() + "is not a valid bracket elimination type");
+        }
+    }
+
+    /**
+     * Creates the {@code Bracket} UI, draws it on the target {@code BracketView}, and displays it
+     * on-screen. If a {@code BracketScene} retained from an earlier {@code BracketView} is given,
+     * and it lays out the current {@code Bracket}, it is drawn as it was left instead, which spares
+     * laying the {@code Bracket} out again after a screen rotation.
+     *
+     * @param context  the Context from which this method was called
+     * @param view     the BracketView on which this Bracket UI is to be drawn
+     * @param retained the BracketScene retained from an earlier BracketView, or null if there is none
+     * @return         the BracketScene drawn on the BracketView, to be retained
+     * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
+     *         Created
+     */
+    public static BracketScene buildBracketUI(Context context, BracketView view, BracketScene retained) throws BracketNotCreatedException{
+        return invoker.buildBracketUI(context, view, retained);
+    }
+
+    /**
+     * Lays out the {@code Bracket} for nodes of the given size. The {@code TextCropper} must be
+     * got on the UI thread beforehand, with {@code textCropper(Context)}; given one, this creates
+     * and touches no {@code View}, so that it may be called on a background thread, such as the
+     * {@code BracketWorker}'s. The result is then drawn with
+     * {@code buildBracketUI(Context, BracketView, BracketScene)}.
+     *
+     * @param context    the Context from which this method was called
+     * @param cropper    crops Seat names in the text style of the nodes
+     * @param nodeWidth  the width of a node, in pixels
+     * @param nodeHeight the height of a node, in pixels
+     * @return           the BracketScene of the Bracket
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
+     * @see #textCropper(Context) textCropper(Context)
+     * @see BracketWorker         BracketWorker
+     */
+    public static BracketScene layoutBracket(Context context, TextCropper cropper, int nodeWidth, int nodeHeight) throws BracketNotCreatedException{
+        return invoker.layoutBracket(context, cropper, nodeWidth, nodeHeight);
+    }
+
+    /**
+     * Returns the {@code TextCropper} for the text {@code style} of the {@code Bracket}'s nodes,
+     * measured in the given {@code Context}'s theme. Must be called on the UI thread: the first
+     * time a text {@code style} is measured, a {@code Button} is created to measure it with.
+     *
+     * @param context the Context from which this method was called
+     * @return        the TextCropper for the text style of the nodes
      */
-    public static void buildBracketUI(Context context, LinearLayout layout) throws BracketNotCreatedException{
-        invoker.buildBracketUI(context, layout);
+    public static TextCropper textCropper(Context context) {
+        return TextCropper.get(GlyphWidthCache.get(context, R.style.LargeText));
     }
 
     /**
@@ -135,15 +184,13 @@ public class BracketInterface {
      * data structure.
      *
      * @param context the Context from which this method was called
-     * @param layout  the LinearLayout in which this Player is to be moved
-     * @param id      a String representation of the ID of the calling View and subsequently its
-     *                corresponding Player's ID in the Bracket (not including the Player ID's
-     *                leading Seat type identifier)
+     * @param view    the BracketView on which this Player is to be moved
+     * @param slot    the slot of the Player in the Bracket
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public static void moveForward(Context context, LinearLayout layout, String id) throws BracketNotCreatedException{
-        invoker.moveForward(context, layout, id);
+    public static void moveForward(Context context, BracketView view, int slot) throws BracketNotCreatedException{
+        invoker.moveForward(context, view, slot);
     }
 
     /**
@@ -152,48 +199,67 @@ public class BracketInterface {
      * data structure.
      *
      * @param context the Context from which this method was called
-     * @param layout  the LinearLayout in which this Player is to be moved
-     * @param id      a String representation of the ID of the calling View and subsequently its
-     *                corresponding Player's ID in the Bracket (not including the Player ID's
-     *                leading Seat type identifier)
+     * @param view    the BracketView on which this Player is to be moved
+     * @param slot    the slot of the Player in the Bracket
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public static void moveBack(Context context, LinearLayout layout, String id) throws BracketNotCreatedException{
-        invoker.moveBack(context, layout, id);
+    public static void moveBack(Context context, BracketView view, int slot) throws BracketNotCreatedException{
+        invoker.moveBack(context, view, slot);
     }
 
     /**
-     * Deconstructs the {@code Bracket} and stores it in the {@code SQLiteDatabase}.
+     * Deconstructs the {@code Bracket} and stores it in the {@code SQLiteDatabase}. The
+     * {@code Bracket} is read straight away, and written in the background by the
+     * {@code PersistenceExecutor}, so this never blocks the UI thread.
      *
-     * @param context the Context from which this method was called
+     * @param context  the Context from which this method was called
+     * @param callback notified on the UI thread once the Bracket has been stored; may be null
+     * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
+     *         Created
+     * @see PersistenceExecutor PersistenceExecutor
+     */
+    public static void storeBracket(Context context, PersistenceExecutor.Callback<Void> callback) throws BracketNotCreatedException{
+        invoker.storeBracket(context, callback);
+    }
+
+    /**
+     * Archives the {@code Bracket} in the {@code SQLiteDatabase} as a single binary snapshot. The
+     * snapshot is compact and loads in one row read, which suits a {@code Bracket} being put away;
+     * {@code storeBracket(Context, Callback)} suits saving while a {@code Bracket} is being played.
+     * Like it, the write happens in the background.
+     *
+     * @param context  the Context from which this method was called
+     * @param callback notified on the UI thread once the Bracket has been archived; may be null
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
+     * @see #storeBracket(Context, PersistenceExecutor.Callback) storeBracket(Context, Callback)
      */
-    public static void storeBracket(Context context) throws BracketNotCreatedException{
-        invoker.storeBracket(context);
+    public static void storeBracketSnapshot(Context context, PersistenceExecutor.Callback<Void> callback) throws BracketNotCreatedException{
+        invoker.storeBracketSnapshot(context, callback);
     }
 
     /**
-     * Deletes the target {@code Bracket} from the {@code SQLiteDatabase}.
+     * Deletes the target {@code Bracket} from the {@code SQLiteDatabase} in the background.
      *
      * @param context   the Context from which this method was called
      * @param bracketId the ID of the Bracket to be deleted
+     * @param callback  notified on the UI thread once the Bracket has been deleted; may be null
      */
-    public static void deleteBracket(Context context, int bracketId) {
-        invoker.deleteBracket(context, bracketId);
+    public static void deleteBracket(Context context, int bracketId, PersistenceExecutor.Callback<Void> callback) {
+        invoker.deleteBracket(context, bracketId, callback);
     }
 
     /**
      * Returns the current state of the {@code Bracket} from the underlying {@code Bracket} data
-     * structure as an {@code ArrayList<Seat>} upcasted to an {@code ArrayList<Object>}. This
-     * {@code ArrayList} does not include empty slots in the {@code Bracket}.
+     * structure as a {@code BracketSnapshot}, which does not include empty slots in the
+     * {@code Bracket}.
      *
      * @return the current state of the Bracket
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public static ArrayList getBracketState() throws BracketNotCreatedException {
-        return (ArrayList)invoker.getBracketState();
+    public static BracketSnapshot getBracketState() throws BracketNotCreatedException {
+        return invoker.getBracketState();
     }
 }
@@ -0,0 +1,115 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+/**
+ * One page of the saved {@code Bracket}s, as listed on the "Load" screen: the metadata of a run of
+ * consecutive {@code Bracket}s, ordered by ID, held in parallel arrays.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketDbHelper#getBracketPage(int, int) BracketDbHelper.getBracketPage(int, int)
+ * @since 1.0.1
+ */
+public final class BracketPage {
+    /**
+     * The position, among every saved {@code Bracket}, of the first {@code Bracket} on this page.
+     */
+    private final int offset;
+
+    /**
+     * The ID of each {@code Bracket} on this page.
+     */
+    private final int[] bracketIds;
+
+    /**
+     * The name of each {@code Bracket} on this page, parallel to {@code bracketIds}.
+     */
+    private final String[] bracketNames;
+
+    /**
+     * The number of {@code Player}s, not including {@code Bye}s, in each {@code Bracket} on this
+     * page, parallel to {@code bracketIds}.
+     */
+    private final int[] numPlayers;
+
+    /**
+     * The date each {@code Bracket} on this page was created, parallel to {@code bracketIds}.
+     */
+    private final String[] bracketDates;
+
+    /**
+     * The sole constructor for the {@code BracketPage} class. The arrays are held, not copied.
+     *
+     * @param offset       the position of the first Bracket on this page
+     * @param bracketIds   the ID of each Bracket on this page
+     * @param bracketNames the name of each Bracket, parallel to bracketIds
+     * @param numPlayers   the number of Players in each Bracket, parallel to bracketIds
+     * @param bracketDates the date each Bracket was created, parallel to bracketIds
+     */
+    public BracketPage(int offset, int[] bracketIds, String[] bracketNames, int[] numPlayers, String[] bracketDates) {
+        this.offset = offset;
+        this.bracketIds = bracketIds;
+        this.bracketNames = bracketNames;
+        this.numPlayers = numPlayers;
+        this.bracketDates = bracketDates;
+    }
+
+    /**
+     * Returns the position, among every saved {@code Bracket}, of the first {@code Bracket} on this
+     * page.
+     *
+     * @return the position of the first Bracket on this page
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of {@code Bracket}s on this page.
+     *
+     * @return the number of Brackets on this page
+     */
+    public int size() {
+        return bracketIds.length;
+    }
+
+    /**
+     * Returns the ID of the {@code Bracket} at the given index of this page.
+     *
+     * @param index the index of the Bracket on this page
+     * @return      the Bracket's ID
+     */
+    public int getBracketId(int index) {
+        return bracketIds[index];
+    }
+
+    /**
+     * Returns the name of the {@code Bracket} at the given index of this page.
+     *
+     * @param index the index of the Bracket on this page
+     * @return      a String representation of the Bracket's name
+     */
+    public String getBracketName(int index) {
+        return bracketNames[index];
+    }
+
+    /**
+     * Returns the number of {@code Player}s, not including {@code Bye}s, in the {@code Bracket} at
+     * the given index of this page.
+     *
+     * @param index the index of the Bracket on this page
+     * @return      the number of Players in the Bracket
+     */
+    public int getNumPlayers(int index) {
+        return numPlayers[index];
+    }
+
+    /**
+     * Returns the date the {@code Bracket} at the given index of this page was created.
+     *
+     * @param index the index of the Bracket on this page
+     * @return      a String representation of the date the Bracket was created
+     */
+    public String getBracketDate(int index) {
+        return bracketDates[index];
+    }
+}
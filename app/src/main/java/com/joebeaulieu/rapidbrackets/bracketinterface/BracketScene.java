@@ -0,0 +1,102 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketLayout;
+
+/**
+ * Everything a {@code BracketView} draws, apart from the images themselves: the
+ * {@code BracketLayout} of every node and connector, the text and text color of every node, and how
+ * far the {@code Bracket} is zoomed and scrolled. A {@code BracketScene} holds no {@code Context}
+ * or {@code View}, so it can outlive the screen it was built for and be bound to a new
+ * {@code BracketView} after a screen rotation, without laying the {@code Bracket} out again.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketView   BracketView
+ * @see BracketLayout BracketLayout
+ * @since 1.0.1
+ */
+public final class BracketScene {
+    /**
+     * How far right of a node the vertical pipe of its connector runs, as a fraction of a node's
+     * height, as drawn in the connector images.
+     */
+    private static final float PIPE_OFFSET = 25f / 66f;
+
+    /**
+     * The {@code Bracket} laid out.
+     */
+    final Bracket bracket;
+
+    /**
+     * The position of every node and connector, in pixels.
+     */
+    final BracketLayout layout;
+
+    /**
+     * The width of a node, in pixels.
+     */
+    final int nodeWidth;
+
+    /**
+     * The width of the whole {@code Bracket}, in pixels.
+     */
+    final int contentWidth;
+
+    /**
+     * The height of the whole {@code Bracket}, in pixels.
+     */
+    final int contentHeight;
+
+    /**
+     * The text of each node, indexed by slot, or null where the node is empty.
+     */
+    final String[] labels;
+
+    /**
+     * The text color of each node, indexed by slot.
+     */
+    final int[] textColors;
+
+    /**
+     * The zoom the {@code Bracket} is drawn at.
+     */
+    float scale = 1f;
+
+    /**
+     * How far the {@code Bracket} is scrolled right, in on-screen pixels.
+     */
+    float panX;
+
+    /**
+     * How far the {@code Bracket} is scrolled down, in on-screen pixels.
+     */
+    float panY;
+
+    /**
+     * Lays out the given {@code Bracket} for nodes of the given size, with each connector as wide
+     * as a node is high. Every node starts out empty.
+     *
+     * @param bracket    the Bracket to lay out
+     * @param nodeWidth  the width of a node, in pixels
+     * @param nodeHeight the height of a node, in pixels
+     */
+    public BracketScene(Bracket bracket, int nodeWidth, int nodeHeight) {
+        this.bracket = bracket;
+        this.nodeWidth = nodeWidth;
+        layout = new BracketLayout(bracket.columnSize(0), nodeWidth, nodeHeight, nodeHeight, PIPE_OFFSET * nodeHeight);
+        contentWidth = (int) Math.ceil(layout.getWidth());
+        contentHeight = (int) Math.ceil(layout.getHeight());
+        labels = new String[2 * layout.getLeaves()];
+        textColors = new int[labels.length];
+    }
+
+    /**
+     * Returns the {@code Bracket} laid out.
+     *
+     * @return the Bracket laid out
+     */
+    public Bracket getBracket() {
+        return bracket;
+    }
+}
@@ -0,0 +1,592 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.support.v4.content.ContextCompat;
+import android.text.TextPaint;
+import android.util.AttributeSet;
+import android.view.GestureDetector;
+import android.view.HapticFeedbackConstants;
+import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
+import android.view.SoundEffectConstants;
+import android.view.View;
+import android.widget.OverScroller;
+
+import com.joebeaulieu.rapidbrackets.activities.R;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketLayout;
+
+/**
+ * Draws the whole {@code Bracket} UI as a single {@code View}: every {@code Seat} node and every
+ * connector is drawn straight onto the {@code Canvas} from the geometry of a
+ * {@code BracketScene}, computed once, rather than being a {@code Button} or {@code ImageView} of
+ * its own. Touches are mapped back to the slot of the node under them, so the number of
+ * {@code View}s, and the cost of laying them out, does not grow with the size of the
+ * {@code Bracket}.
+ * <p>
+ * The {@code BracketView} pans and pinch-zooms itself. Only the columns and rows on-screen are
+ * drawn, and once zoomed out past {@code MIN_DETAIL_SCALE} the names are dropped and the nodes and
+ * connectors are drawn as plain lines. The padding is a margin around the {@code Bracket}, and
+ * zooms with it.
+ * <p>
+ * The {@code BracketScene} holds all of the {@code BracketView}'s state, including its zoom and
+ * scroll, so a {@code BracketView} created after a screen rotation picks up where the last one
+ * left off once it is given the same {@code BracketScene}.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketScene      BracketScene
+ * @see CMDBuildBracketUI CMDBuildBracketUI
+ * @since 1.0.1
+ */
+public class BracketView extends View {
+    /**
+     * Receives taps and long presses on the nodes of a {@code BracketView}. Only nodes which hold
+     * a {@code Seat} are reported.
+     */
+    public interface OnSlotClickListener {
+        /**
+         * Called when a node is tapped.
+         *
+         * @param slot the slot of the node in the Bracket
+         */
+        void onSlotClick(int slot);
+
+        /**
+         * Called when a node is long pressed.
+         *
+         * @param slot the slot of the node in the Bracket
+         */
+        void onSlotLongClick(int slot);
+    }
+
+    /**
+     * The width of a connector's pipe, as a fraction of a node's height, as drawn in the connector
+     * images.
+     */
+    private static final float PIPE_WIDTH = 34f / 66f;
+
+    /**
+     * The width of the border on either side of a connector's pipe, as a fraction of a node's
+     * height.
+     */
+    private static final float PIPE_BORDER = 9f / 66f;
+
+    /**
+     * The largest zoom.
+     */
+    private static final float MAX_SCALE = 2f;
+
+    /**
+     * The smallest zoom at which nodes are drawn in full, with their names. Below it the names
+     * are too small to read.
+     */
+    private static final float MIN_DETAIL_SCALE = 0.35f;
+
+    /**
+     * The layout and state of the {@code Bracket} being drawn, or null if there is none yet.
+     */
+    private BracketScene scene;
+
+    /**
+     * The image of the nodes in the first column.
+     */
+    private final Drawable nodeStart;
+
+    /**
+     * The image of the nodes between the first and last columns.
+     */
+    private final Drawable nodeIntermediate;
+
+    /**
+     * The image of the node in the last column.
+     */
+    private final Drawable nodeEnd;
+
+    /**
+     * The width of a node, in pixels.
+     */
+    private final int nodeWidth;
+
+    /**
+     * The height of a node, in pixels.
+     */
+    private final int nodeHeight;
+
+    /**
+     * Draws the border of the connectors.
+     */
+    private final Paint borderPaint;
+
+    /**
+     * Draws the inside of the connectors.
+     */
+    private final Paint pipePaint;
+
+    /**
+     * Draws the nodes and connectors as plain, one pixel lines when zoomed out.
+     */
+    private final Paint linePaint;
+
+    /**
+     * Draws the text of the nodes.
+     */
+    private TextPaint textPaint;
+
+    /**
+     * Reused to hold the area of the {@code Canvas} being redrawn.
+     */
+    private final Rect clip = new Rect();
+
+    /**
+     * Notified of taps and long presses on the nodes.
+     */
+    private OnSlotClickListener listener;
+
+    /**
+     * Turns touches into taps, long presses, drags, and flings.
+     */
+    private final GestureDetector gestures;
+
+    /**
+     * Turns touches into pinches.
+     */
+    private final ScaleGestureDetector scaleGestures;
+
+    /**
+     * Animates flings.
+     */
+    private final OverScroller scroller;
+
+    /**
+     * The constructor used when inflating a {@code BracketView} from XML. Loads the node images
+     * and derives the size of everything else from them.
+     *
+     * @param context the Context the BracketView is running in
+     * @param attrs   the attributes of the XML tag inflating the BracketView
+     */
+    public BracketView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        nodeStart = ContextCompat.getDrawable(context, R.drawable.node_start);
+        nodeIntermediate = ContextCompat.getDrawable(context, R.drawable.node_intermediate);
+        nodeEnd = ContextCompat.getDrawable(context, R.drawable.node_end);
+        nodeWidth = nodeStart.getIntrinsicWidth();
+        nodeHeight = nodeStart.getIntrinsicHeight();
+
+        borderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        borderPaint.setStyle(Paint.Style.STROKE);
+        borderPaint.setStrokeCap(Paint.Cap.ROUND);
+        borderPaint.setStrokeWidth(PIPE_WIDTH * nodeHeight);
+        borderPaint.setColor(ContextCompat.getColor(context, R.color.connector_border));
+        pipePaint = new Paint(borderPaint);
+        pipePaint.setStrokeWidth((PIPE_WIDTH - 2 * PIPE_BORDER) * nodeHeight);
+        pipePaint.setColor(ContextCompat.getColor(context, R.color.connector_fill));
+        // a stroke width of 0 draws one pixel wide at any zoom
+        linePaint = new Paint(borderPaint);
+        linePaint.setStrokeWidth(0);
+        textPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+
+        scroller = new OverScroller(context);
+        gestures = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent e) {
+                scroller.forceFinished(true);
+                return true;
+            }
+
+            @Override
+            public boolean onSingleTapUp(MotionEvent e) {
+                int slot = slotAt(e.getX(), e.getY());
+                if (slot != 0 && listener != null) {
+                    playSoundEffect(SoundEffectConstants.CLICK);
+                    listener.onSlotClick(slot);
+                }
+                return slot != 0;
+            }
+
+            @Override
+            public void onLongPress(MotionEvent e) {
+                int slot = slotAt(e.getX(), e.getY());
+                if (slot != 0 && listener != null) {
+                    performHapticFeedback(HapticFeedbackConstants.LONG_PRESS);
+                    listener.onSlotLongClick(slot);
+                }
+            }
+
+            @Override
+            public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
+                if (scene != null) {
+                    panTo(scene.panX + distanceX, scene.panY + distanceY);
+                }
+                return true;
+            }
+
+            @Override
+            public boolean onFling(MotionEvent e1, MotionEvent e2, float velocityX, float velocityY) {
+                if (scene != null) {
+                    scroller.fling((int) scene.panX, (int) scene.panY, (int) -velocityX, (int) -velocityY,
+                            0, (int) maxPanX(), 0, (int) maxPanY());
+                    postInvalidateOnAnimation();
+                }
+                return true;
+            }
+        });
+        scaleGestures = new ScaleGestureDetector(context, new ScaleGestureDetector.SimpleOnScaleGestureListener() {
+            @Override
+            public boolean onScale(ScaleGestureDetector detector) {
+                if (scene == null) {
+                    return true;
+                }
+                float oldScale = scene.scale;
+                scene.scale = Math.max(minScale(), Math.min(MAX_SCALE, scene.scale * detector.getScaleFactor()));
+                // keep the point between the fingers still
+                float factor = scene.scale / oldScale;
+                float focusX = detector.getFocusX();
+                float focusY = detector.getFocusY();
+                panTo((scene.panX + focusX) * factor - focusX, (scene.panY + focusY) * factor - focusY);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Sets the {@code BracketScene} to draw, as it was left: its nodes, zoom, and scroll.
+     *
+     * @param scene the BracketScene to draw
+     */
+    public void setScene(BracketScene scene) {
+        this.scene = scene;
+        invalidate();
+        scroller.forceFinished(true);
+        scene.scale = Math.max(minScale(), Math.min(MAX_SCALE, scene.scale));
+        panTo(scene.panX, scene.panY);
+        requestLayout();
+    }
+
+    /**
+     * Returns the {@code BracketScene} being drawn.
+     *
+     * @return the BracketScene being drawn, or null if there is none yet
+     */
+    public BracketScene getScene() {
+        return scene;
+    }
+
+    /**
+     * Sets the paint the text of the nodes is drawn with. Its color is replaced by each node's
+     * own text color.
+     *
+     * @param paint the paint to copy
+     */
+    public void setTextPaint(Paint paint) {
+        textPaint = new TextPaint(paint);
+        textPaint.setAntiAlias(true);
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        invalidate();
+    }
+
+    /**
+     * Returns the paint the text of the nodes is drawn with, for measuring it.
+     *
+     * @return the text paint
+     */
+    public TextPaint getTextPaint() {
+        return textPaint;
+    }
+
+    /**
+     * Returns the width of a node, in pixels.
+     *
+     * @return the width of a node
+     */
+    public int getNodeWidth() {
+        return nodeWidth;
+    }
+
+    /**
+     * Returns the height of a node, in pixels.
+     *
+     * @return the height of a node
+     */
+    public int getNodeHeight() {
+        return nodeHeight;
+    }
+
+    /**
+     * Sets the text of the node at the given slot, redrawing only that node. A node with text is
+     * filled, and reports taps and long presses; a node without is empty.
+     *
+     * @param slot  the slot of the node
+     * @param label the text of the node, or null to empty it
+     */
+    public void setLabel(int slot, String label) {
+        scene.labels[slot] = label;
+        invalidateSlot(slot);
+    }
+
+    /**
+     * Returns the text of the node at the given slot.
+     *
+     * @param slot the slot of the node
+     * @return     the text of the node, or null if it is empty
+     */
+    public String getLabel(int slot) {
+        return scene.labels[slot];
+    }
+
+    /**
+     * Sets the color of the text of the node at the given slot, redrawing only that node.
+     *
+     * @param slot  the slot of the node
+     * @param color the color of the text
+     */
+    public void setNodeTextColor(int slot, int color) {
+        if (scene.textColors[slot] != color) {
+            scene.textColors[slot] = color;
+            invalidateSlot(slot);
+        }
+    }
+
+    /**
+     * Redraws only the on-screen area of the node at the given slot. Looking the node up is a pair
+     * of array reads, so updating a node costs the same however big the {@code Bracket} is.
+     *
+     * @param slot the slot of the node
+     */
+    private void invalidateSlot(int slot) {
+        float left = (scene.layout.getNodeLeft(slot) + getPaddingLeft()) * scene.scale - scene.panX;
+        float top = (scene.layout.getNodeTop(slot) + getPaddingTop()) * scene.scale - scene.panY;
+        invalidate((int) Math.floor(left), (int) Math.floor(top),
+                (int) Math.ceil(left + nodeWidth * scene.scale), (int) Math.ceil(top + nodeHeight * scene.scale));
+    }
+
+    /**
+     * Sets the listener notified of taps and long presses on the nodes.
+     *
+     * @param listener the listener, or null to stop reporting them
+     */
+    public void setOnSlotClickListener(OnSlotClickListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the slot of the filled node at the given point, in O(1). The point is mapped back
+     * through the scroll and zoom, then looked up in the {@code BracketLayout}.
+     *
+     * @param x the x coordinate, in pixels, relative to this View
+     * @param y the y coordinate, in pixels, relative to this View
+     * @return  the slot of the node, or 0 if there is no filled node at the point
+     */
+    public int slotAt(float x, float y) {
+        if (scene == null) {
+            return 0;
+        }
+        int slot = scene.layout.slotAt(
+                (x + scene.panX) / scene.scale - getPaddingLeft(),
+                (y + scene.panY) / scene.scale - getPaddingTop());
+        return scene.labels[slot] == null ? 0 : slot;
+    }
+
+    /**
+     * Returns the width of the {@code Bracket} and its padding, in pixels, at a zoom of 1.
+     *
+     * @return the width of the Bracket and its padding
+     */
+    private int worldWidth() {
+        return (scene == null ? 0 : scene.contentWidth) + getPaddingLeft() + getPaddingRight();
+    }
+
+    /**
+     * Returns the height of the {@code Bracket} and its padding, in pixels, at a zoom of 1.
+     *
+     * @return the height of the Bracket and its padding
+     */
+    private int worldHeight() {
+        return (scene == null ? 0 : scene.contentHeight) + getPaddingTop() + getPaddingBottom();
+    }
+
+    /**
+     * Returns the smallest zoom: the zoom at which the whole {@code Bracket} fits on-screen, or 1
+     * if it already fits.
+     *
+     * @return the smallest zoom
+     */
+    private float minScale() {
+        if (getWidth() == 0 || getHeight() == 0) {
+            return Math.min(1f, scene.scale);
+        }
+        return Math.min(1f, Math.min(
+                (float) getWidth() / worldWidth(),
+                (float) getHeight() / worldHeight()));
+    }
+
+    /**
+     * Returns the furthest the {@code Bracket} can be scrolled right at the current zoom.
+     *
+     * @return the furthest right scroll, in on-screen pixels
+     */
+    private float maxPanX() {
+        return Math.max(0, worldWidth() * scene.scale - getWidth());
+    }
+
+    /**
+     * Returns the furthest the {@code Bracket} can be scrolled down at the current zoom.
+     *
+     * @return the furthest down scroll, in on-screen pixels
+     */
+    private float maxPanY() {
+        return Math.max(0, worldHeight() * scene.scale - getHeight());
+    }
+
+    /**
+     * Scrolls the {@code Bracket} to the given point, kept within its edges, and redraws it.
+     *
+     * @param x how far to scroll right, in on-screen pixels
+     * @param y how far to scroll down, in on-screen pixels
+     */
+    private void panTo(float x, float y) {
+        scene.panX = Math.max(0, Math.min(maxPanX(), x));
+        scene.panY = Math.max(0, Math.min(maxPanY(), y));
+        invalidate();
+    }
+
+    /**
+     * Advances a fling.
+     */
+    @Override
+    public void computeScroll() {
+        if (scene != null && scroller.computeScrollOffset()) {
+            panTo(scroller.getCurrX(), scroller.getCurrY());
+            postInvalidateOnAnimation();
+        }
+    }
+
+    /**
+     * Keeps the zoom and scroll within bounds when the size of the {@code BracketView} changes.
+     *
+     * @param w    the new width
+     * @param h    the new height
+     * @param oldw the old width
+     * @param oldh the old height
+     */
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        if (scene != null) {
+            scene.scale = Math.max(minScale(), Math.min(MAX_SCALE, scene.scale));
+            panTo(scene.panX, scene.panY);
+        }
+    }
+
+    /**
+     * Measures the {@code BracketView} as the size of the whole {@code Bracket} plus padding,
+     * unless told otherwise by its parent.
+     *
+     * @param widthMeasureSpec  the width requirements of the parent
+     * @param heightMeasureSpec the height requirements of the parent
+     */
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        setMeasuredDimension(
+                resolveSize(worldWidth(), widthMeasureSpec),
+                resolveSize(worldHeight(), heightMeasureSpec));
+    }
+
+    /**
+     * Draws the columns and rows being redrawn: the connectors, then the nodes over their ends, then
+     * the text of each filled node. When zoomed out past {@code MIN_DETAIL_SCALE}, draws the nodes
+     * and connectors as plain lines instead.
+     *
+     * @param canvas the Canvas to draw on
+     */
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (scene == null) {
+            return;
+        }
+        BracketLayout layout = scene.layout;
+        float scale = scene.scale;
+
+        // the area being redrawn, in the Bracket's own pixels; either
+        // the whole screen or, where supported, just the invalidated nodes
+        canvas.getClipBounds(clip);
+        float left = (scene.panX + clip.left) / scale - getPaddingLeft();
+        float top = (scene.panY + clip.top) / scale - getPaddingTop();
+        float right = (scene.panX + clip.right) / scale - getPaddingLeft();
+        float bottom = (scene.panY + clip.bottom) / scale - getPaddingTop();
+
+        canvas.save();
+        canvas.translate(-scene.panX, -scene.panY);
+        canvas.scale(scale, scale);
+        canvas.translate(getPaddingLeft(), getPaddingTop());
+
+        float pitch = layout.getColumnPitch();
+        int columns = layout.getColumns();
+        int firstColumn = Math.max(0, (int) Math.floor(left / pitch));
+        int lastColumn = Math.min(columns - 1, (int) Math.floor(right / pitch));
+        boolean detailed = scale >= MIN_DETAIL_SCALE;
+
+        // a column's connectors lie between it and the next column,
+        // and each lies within the cell of the node it feeds
+        for (int column = firstColumn; column <= lastColumn && column < columns - 1; column++) {
+            int firstMatch = layout.getFirstRow(column + 1, top);
+            int lastMatch = layout.getLastRow(column + 1, bottom);
+            if (firstMatch > lastMatch) {
+                continue;
+            }
+            int offset = BracketLayout.CONNECTOR_FLOATS * layout.getSlot(column + 1, firstMatch);
+            int count = BracketLayout.CONNECTOR_FLOATS * (lastMatch - firstMatch + 1);
+            if (detailed) {
+                canvas.drawLines(layout.getConnectorLines(), offset, count, borderPaint);
+                canvas.drawLines(layout.getConnectorLines(), offset, count, pipePaint);
+            } else {
+                canvas.drawLines(layout.getConnectorLines(), offset, count, linePaint);
+            }
+        }
+
+        Paint.FontMetrics metrics = textPaint.getFontMetrics();
+        float baseline = nodeHeight / 2f - (metrics.ascent + metrics.descent) / 2;
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            int firstRow = layout.getFirstRow(column, top);
+            int lastRow = layout.getLastRow(column, bottom);
+            if (firstRow > lastRow) {
+                continue;
+            }
+            if (!detailed) {
+                canvas.drawLines(layout.getNodeLines(), BracketLayout.LINE_FLOATS * layout.getSlot(column, firstRow),
+                        BracketLayout.LINE_FLOATS * (lastRow - firstRow + 1), linePaint);
+                continue;
+            }
+            Drawable node = column == 0 ? nodeStart : column == columns - 1 ? nodeEnd : nodeIntermediate;
+            for (int row = firstRow; row <= lastRow; row++) {
+                int slot = layout.getSlot(column, row);
+                int nodeX = (int) layout.getNodeLeft(slot);
+                int nodeY = (int) layout.getNodeTop(slot);
+                node.setBounds(nodeX, nodeY, nodeX + nodeWidth, nodeY + nodeHeight);
+                node.draw(canvas);
+                if (scene.labels[slot] != null) {
+                    textPaint.setColor(scene.textColors[slot]);
+                    canvas.drawText(scene.labels[slot], nodeX + nodeWidth / 2f, nodeY + baseline, textPaint);
+                }
+            }
+        }
+        canvas.restore();
+    }
+
+    /**
+     * Passes touches to the {@code ScaleGestureDetector}, which zooms on pinches, and the
+     * {@code GestureDetector}, which scrolls on drags and flings and reports taps and long presses
+     * on the nodes.
+     *
+     * @param event the touch event
+     * @return      true, as every touch is handled
+     */
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        boolean handled = scaleGestures.onTouchEvent(event);
+        handled = gestures.onTouchEvent(event) || handled;
+        return handled || super.onTouchEvent(event);
+    }
+}
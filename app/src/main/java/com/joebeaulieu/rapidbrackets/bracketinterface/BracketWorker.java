@@ -0,0 +1,136 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.joebeaulieu.rapidbrackets.bracketds.SeedOrderCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the creation and layout of {@code Bracket}s on a single background thread, so that large
+ * {@code Bracket}s never freeze the UI thread while being built. Results are delivered to a
+ * {@code BracketWorker.Callback} on the UI thread.
+ * <p>
+ * The work is kept apart from the {@code PersistenceExecutor}'s, so building a {@code Bracket}
+ * never waits on, or holds up, the {@code SQLiteDatabase}.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see PersistenceExecutor PersistenceExecutor
+ * @since 1.0.1
+ */
+public final class BracketWorker {
+    /**
+     * Receives the result of work run by the {@code BracketWorker}. Both methods are called on the
+     * UI thread.
+     *
+     * @param <T> the type of the result
+     */
+    public interface Callback<T> {
+        /**
+         * Called when the work has completed.
+         *
+         * @param result the result of the work
+         */
+        void onSuccess(T result);
+
+        /**
+         * Called when the work has failed. The failure has already been logged.
+         *
+         * @param e the exception the work failed with
+         */
+        void onFailure(Exception e);
+    }
+
+    /**
+     * The tag failed work is logged under.
+     */
+    private static final String TAG = "BracketWorker";
+
+    /**
+     * The single thread all work runs on.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "bracket-worker");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * Delivers results to the UI thread.
+     */
+    private static final Handler MAIN = new Handler(Looper.getMainLooper());
+
+    /**
+     * Whether or not the seed order tables have been queued to be precomputed in this process.
+     */
+    private static final AtomicBoolean seedOrdersQueued = new AtomicBoolean();
+
+    /**
+     * {@code BracketWorker} only contains static methods and is never instantiated.
+     */
+    private BracketWorker() {
+    }
+
+    /**
+     * Precomputes the seed order tables for common {@code Bracket} sizes on the background thread,
+     * so the first {@code Bracket}s created do not pay for them. Only the first call in a process
+     * does anything; later calls, such as from a recreated screen, return straight away.
+     *
+     * @see SeedOrderCache#precompute() SeedOrderCache.precompute()
+     */
+    public static void precomputeSeedOrders() {
+        if (seedOrdersQueued.compareAndSet(false, true)) {
+            EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    SeedOrderCache.precompute();
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs work on the background thread, in the order it was submitted.
+     *
+     * @param work     the work to run
+     * @param callback receives the result on the UI thread
+     * @param <T>      the type of the result
+     */
+    public static <T> void submit(final Callable<T> work, final Callback<T> callback) {
+        EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                T result = null;
+                Exception failure = null;
+                try {
+                    result = work.call();
+                } catch (Exception e) {
+                    Log.e(TAG, "Bracket work failed", e);
+                    failure = e;
+                }
+                final T finalResult = result;
+                final Exception finalFailure = failure;
+                MAIN.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (finalFailure == null) {
+                            callback.onSuccess(finalResult);
+                        } else {
+                            callback.onFailure(finalFailure);
+                        }
+                    }
+                });
+            }
+        });
+    }
+}
@@ -21,6 +21,11 @@ public class CMDDeleteBracket extends Command{
      */
     private int bracketId;
 
+    /**
+     * Notified on the UI thread once the {@code Bracket} has been deleted.
+     */
+    private PersistenceExecutor.Callback<Void> callback;
+
     /**
      * The sole constructor for the {@code CMDDeleteBracket} class. Initializes all class variables
      * and passes the {@code Aggregator} to the {@code Command} superclass.
@@ -28,21 +33,29 @@ public class CMDDeleteBracket extends Command{
      * @param agg       the Aggregator for the command design pattern
      * @param context   the Context from which this Command sequence was initiated
      * @param bracketId the ID of the target Bracket
+     * @param callback  notified on the UI thread once the Bracket has been deleted; may be null
      */
-    public CMDDeleteBracket(Aggregator agg, Context context, int bracketId) {
+    public CMDDeleteBracket(Aggregator agg, Context context, int bracketId, PersistenceExecutor.Callback<Void> callback) {
         super(agg);
-        this.context = context;
+        this.context = context.getApplicationContext();
         this.bracketId = bracketId;
+        this.callback = callback;
     }
 
     /**
-     * Deletes the target {@code Bracket} from the {@code SQLiteDatabase}.
+     * Deletes the target {@code Bracket} from the {@code SQLiteDatabase} in the background, via the
+     * {@code PersistenceExecutor}.
      *
      * @return returns null
      */
     public Object execute() {
-        BracketDbHelper db = new BracketDbHelper(context);
-        db.deleteBracket(bracketId);
+        // deletes are keyed apart from saves, which are keyed by name, so they never absorb one
+        PersistenceExecutor.submit("#" + bracketId, new PersistenceExecutor.Write() {
+            @Override
+            protected void run() {
+                BracketDbHelper.getInstance(context).deleteBracket(bracketId);
+            }
+        }, callback);
         return null;
     }
 }
@@ -0,0 +1,123 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import android.content.Context;
+import android.support.v4.content.ContextCompat;
+import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
+import com.joebeaulieu.rapidbrackets.activities.R;
+
+/**
+ * Lays out the {@code Bracket} in a new {@code BracketScene}, ready to be drawn by a
+ * {@code BracketView}: the position of every node and connector, and the cropped name and text
+ * color of every node holding a {@code Seat}. Names are cropped by a {@code TextCropper} built
+ * beforehand on the UI thread, since measuring a text {@code style} for the first time creates a
+ * {@code View}; once it is given one, the command creates and touches no {@code View}, so it may
+ * be executed on a background thread.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketScene      BracketScene
+ * @see CMDBuildBracketUI CMDBuildBracketUI
+ * @since 1.0.1
+ */
+public class CMDLayoutBracket extends Command{
+    /**
+     * The width of a node, in pixels.
+     */
+    private int nodeWidth;
+
+    /**
+     * The height of a node, in pixels.
+     */
+    private int nodeHeight;
+
+    /**
+     * Crops {@code Seat} names to fit within their nodes.
+     */
+    private TextCropper cropper;
+
+    /**
+     * The width, in pixels, {@code Seat} names are cropped to.
+     */
+    private int maxTextWidth;
+
+    /**
+     * The text color of current nodes.
+     */
+    private int activeText;
+
+    /**
+     * The text color of Byes, Remnants, and non-current nodes.
+     */
+    private int greyText;
+
+    /**
+     * The sole constructor for the {@code CMDLayoutBracket} class. Resolves the text colors and
+     * the room for text inside a node from the {@code Context}'s resources, and passes the
+     * {@code Aggregator} to the {@code Command} superclass.
+     *
+     * @param agg        the Aggregator for the command design pattern
+     * @param context    the Context from which this Command sequence was initiated; only its
+     *                   resources are read
+     * @param cropper    crops Seat names in the text style of the nodes; built on the UI thread
+     * @param nodeWidth  the width of a node, in pixels
+     * @param nodeHeight the height of a node, in pixels
+     */
+    public CMDLayoutBracket(Aggregator agg, Context context, TextCropper cropper, int nodeWidth, int nodeHeight) {
+        super(agg);
+        this.cropper = cropper;
+        this.nodeWidth = nodeWidth;
+        this.nodeHeight = nodeHeight;
+        // the room for text inside a node: the ratio represents the amount of
+        // inner space of a Seat node image compared to its entire size, less
+        // the node's border and extra padding
+        maxTextWidth = (int) ((nodeWidth * 0.875)
+                - (22 * context.getResources().getDisplayMetrics().density));
+        activeText = ContextCompat.getColor(context, R.color.active_node_text);
+        greyText = ContextCompat.getColor(context, R.color.remnant_and_bye_text);
+    }
+
+    /**
+     * Lays out the {@code Bracket} and fills each node holding a {@code Seat} with its cropped
+     * name, "greying" Byes, Remnants, and non-current nodes.
+     *
+     * @return the BracketScene of the Bracket
+     */
+    @Override
+    public Object execute() {
+        Bracket bracket = super.agg.getBracket();
+        BracketScene scene = new BracketScene(bracket, nodeWidth, nodeHeight);
+        for (int i = 0; i < bracket.size(); i++) {
+            for (int j = 0; j < bracket.columnSize(i); j++) {
+                // fill the current node if it holds a Seat
+                if (bracket.get(i, j) != null) {
+                    int slot = bracket.getSlot(i, j);
+                    if ((bracket.isBye(slot) || bracket.isRemnant(slot)) || !isNodeCurrent(i, j)) {
+                        scene.textColors[slot] = greyText;
+                    } else {
+                        scene.textColors[slot] = activeText;
+                    }
+                    scene.labels[slot] = cropper.crop(bracket.get(i, j).getName(), maxTextWidth);
+                }
+            }
+        }
+        return scene;
+    }
+
+    /**
+     * Returns a {@code boolean} value representing whether or not the given {@code Seat} position
+     * corresponds to the most current {@code Seat} in its corresponding {@code Bracket} lane.
+     * <p>
+     * For example: if the {@code Bracket} is halfway completed, with each lane having been progressed
+     * the same amount, none of the {@code Seat}s in the first column will be current.
+     *
+     * @param column the column of the target Seat
+     * @param row    the row of the target Seat
+     * @return       a boolean value representing whether or not the given Seat position corresponds
+     *               to the most current Seat in its corresponding Bracket lane
+     */
+    private boolean isNodeCurrent(int column, int row) {
+        Bracket bracket = agg.getBracket();
+        return column >= bracket.size() - 1
+                || bracket.getSeat(bracket.getParentSlot(bracket.getSlot(column, row))) == null;
+    }
+}
@@ -3,7 +3,11 @@ package com.joebeaulieu.rapidbrackets.bracketinterface;
 import android.content.Context;
 
 import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshot;
 import com.joebeaulieu.rapidbrackets.seats.Seat;
+import com.joebeaulieu.rapidbrackets.seats.SeatID;
+
+import java.util.Arrays;
 
 /**
  * Stores the {@code Bracket} currently being used by the application in the {@code SQLiteDatabase}
@@ -21,48 +25,227 @@ public class CMDStoreBracket extends Command{
     private Context context;
 
     /**
-     * The sole constructor for the {@code CMDMoveForward} class. Initializes all class variables
+     * Whether the {@code Bracket} is archived as a single binary snapshot rather than saved slot
+     * by slot.
+     */
+    private boolean asSnapshot;
+
+    /**
+     * Notified on the UI thread once the {@code Bracket} has been stored.
+     */
+    private PersistenceExecutor.Callback<Void> callback;
+
+    /**
+     * The sole constructor for the {@code CMDStoreBracket} class. Initializes all class variables
      * and passes the {@code Aggregator} to the {@code Command} superclass.
      *
-     * @param agg     the Aggregator for the command design pattern
-     * @param context the Context from which this Command sequence was initiated
+     * @param agg        the Aggregator for the command design pattern
+     * @param context    the Context from which this Command sequence was initiated
+     * @param asSnapshot true to archive the Bracket as a single binary snapshot, false to save
+     *                   only the slots which have changed
+     * @param callback   notified on the UI thread once the Bracket has been stored; may be null
      */
-    public CMDStoreBracket(Aggregator agg, Context context) {
+    public CMDStoreBracket(Aggregator agg, Context context, boolean asSnapshot, PersistenceExecutor.Callback<Void> callback) {
         super(agg);
-        this.context = context;
+        this.context = context.getApplicationContext();
+        this.asSnapshot = asSnapshot;
+        this.callback = callback;
     }
 
     /**
-     * Deconstructs the {@code Bracket} and stores it in the {@code SQLiteDatabase}.
+     * Deconstructs the {@code Bracket} and hands it to the {@code PersistenceExecutor} to be stored
+     * in the {@code SQLiteDatabase}. Either the whole {@code Bracket} is archived as a binary
+     * snapshot, or only the slots which have changed since the last save are written. The
+     * {@code Bracket} is read here, on the UI thread; only the copy is written in the background.
+     * <p>
+     * Changed slots are marked as saved straight away. Should the write fail, they are marked as
+     * changed again so the next save retries them. An archive leaves the changed slots alone: a
+     * later slot by slot save moves the archive back into rows before writing them, so it stays
+     * correct either way.
      *
      * @return returns null
+     * @see BracketDbHelper#storeBracket(String, int, int, String, String[], int[]) BracketDbHelper.storeBracket(String, int, int, String, String[], int[])
+     * @see BracketDbHelper#storeBracketSnapshot(BracketSnapshot, int)                BracketDbHelper.storeBracketSnapshot(BracketSnapshot, int)
      */
     @Override
     public Object execute() {
-        Bracket bracket = agg.getBracket();
-        String bracketName = bracket.getName();
-        String dateCreated = bracket.getDateCreated();
-        int elimType = bracket.getElimType();
-        int numPlayers = bracket.getNumPlayers();
-        BracketDbHelper db = new BracketDbHelper(context);
-
-        // if the Bracket does not yet exist in the SQLiteDatabase,
-        // a new spot for it is created, else, delete the previously
-        // saved Bracket state
-        if (!db.doesBracketExist(bracketName)) {
-            db.insertBracketName(bracketName, elimType, numPlayers, dateCreated);
-        } else {
-            db.deleteBracketState(bracketName);
+        final Bracket bracket = agg.getBracket();
+        if (asSnapshot) {
+            PersistenceExecutor.submit(bracket.getName(),
+                    new Archive(context, BracketSnapshot.of(bracket), bracket.getNumPlayers()), callback);
+            return null;
+        }
+
+        // collect the slots changed since the last save into parallel
+        // arrays; an empty slot keeps a null name so its row is deleted
+        int changed = 0;
+        for (int slot = bracket.nextDirtySlot(0); slot >= 0; slot = bracket.nextDirtySlot(slot + 1)) {
+            changed++;
         }
-        // store the Bracket state in the SQLiteDatabase
-        for (int i = 0; i < bracket.size(); i++) {
-            for (int j = 0; j < bracket.get(i).length; j++) {
-                Seat current = bracket.get(i, j);
-                if (current != null) {
-                    db.insertPlayer(bracketName, current.getID(), current.getName(), current.getTier());
+        String[] seatNames = new String[changed];
+        final int[] seatIds = new int[changed];
+        int i = 0;
+        for (int slot = bracket.nextDirtySlot(0); slot >= 0; slot = bracket.nextDirtySlot(slot + 1)) {
+            Seat current = bracket.getSeat(slot);
+            seatNames[i] = current == null ? null : current.getName();
+            seatIds[i] = bracket.getSeatID(slot);
+            i++;
+        }
+        bracket.clearDirty();
+
+        ChangedSlots write = new ChangedSlots(context, bracket.getName(), bracket.getElimType(),
+                bracket.getNumPlayers(), bracket.getDateCreated(), seatNames, seatIds);
+        PersistenceExecutor.submit(bracket.getName(), write, new PersistenceExecutor.Callback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                if (callback != null) {
+                    callback.onSuccess(result);
                 }
             }
-        }
+
+            @Override
+            public void onFailure(Exception e) {
+                for (int id : seatIds) {
+                    bracket.markDirty(bracket.getSlot(SeatID.getColumn(id), SeatID.getRow(id)));
+                }
+                if (callback != null) {
+                    callback.onFailure(e);
+                }
+            }
+        });
         return null;
     }
+
+    /**
+     * Writes the slots of a {@code Bracket} which have changed since its last save. Absorbs later
+     * writes of changed slots by appending them; the slots are written in order, so the latest
+     * state of a slot saved twice is the one which remains.
+     */
+    private static final class ChangedSlots extends PersistenceExecutor.Write {
+        /**
+         * The application {@code Context}, used to open the {@code SQLiteDatabase}.
+         */
+        private final Context context;
+
+        /**
+         * The name of the {@code Bracket}.
+         */
+        private final String bracketName;
+
+        /**
+         * The elimination type of the {@code Bracket}.
+         */
+        private final int elimType;
+
+        /**
+         * The number of {@code Player}s in the {@code Bracket}, not including {@code Bye}s.
+         */
+        private final int numPlayers;
+
+        /**
+         * The date the {@code Bracket} was created.
+         */
+        private final String dateCreated;
+
+        /**
+         * The names of the {@code Seat}s in the changed slots; null for a slot now empty.
+         */
+        private String[] seatNames;
+
+        /**
+         * The packed IDs of the changed slots, parallel to {@code seatNames}.
+         */
+        private int[] seatIds;
+
+        /**
+         * Creates the write. The arrays are held, not copied.
+         *
+         * @param context     the application Context
+         * @param bracketName the name of the Bracket
+         * @param elimType    the elimination type of the Bracket
+         * @param numPlayers  the number of Players in the Bracket, not including Byes
+         * @param dateCreated the date the Bracket was created
+         * @param seatNames   the names of the Seats in the changed slots
+         * @param seatIds     the packed IDs of the changed slots
+         */
+        ChangedSlots(Context context, String bracketName, int elimType, int numPlayers, String dateCreated,
+                     String[] seatNames, int[] seatIds) {
+            this.context = context;
+            this.bracketName = bracketName;
+            this.elimType = elimType;
+            this.numPlayers = numPlayers;
+            this.dateCreated = dateCreated;
+            this.seatNames = seatNames;
+            this.seatIds = seatIds;
+        }
+
+        @Override
+        protected void run() {
+            BracketDbHelper.getInstance(context).storeBracket(bracketName, elimType, numPlayers, dateCreated, seatNames, seatIds);
+        }
+
+        @Override
+        protected boolean absorb(PersistenceExecutor.Write newer) {
+            if (!(newer instanceof ChangedSlots)) {
+                return false;
+            }
+            ChangedSlots other = (ChangedSlots) newer;
+            String[] names = Arrays.copyOf(seatNames, seatNames.length + other.seatNames.length);
+            int[] ids = Arrays.copyOf(seatIds, seatIds.length + other.seatIds.length);
+            System.arraycopy(other.seatNames, 0, names, seatNames.length, other.seatNames.length);
+            System.arraycopy(other.seatIds, 0, ids, seatIds.length, other.seatIds.length);
+            seatNames = names;
+            seatIds = ids;
+            return true;
+        }
+    }
+
+    /**
+     * Archives a whole {@code Bracket} as a binary snapshot. Absorbs a later archive of the same
+     * {@code Bracket} by taking its snapshot, which supersedes this one.
+     */
+    private static final class Archive extends PersistenceExecutor.Write {
+        /**
+         * The application {@code Context}, used to open the {@code SQLiteDatabase}.
+         */
+        private final Context context;
+
+        /**
+         * The whole state of the {@code Bracket}.
+         */
+        private BracketSnapshot snapshot;
+
+        /**
+         * The number of {@code Player}s in the {@code Bracket}, not including {@code Bye}s.
+         */
+        private int numPlayers;
+
+        /**
+         * Creates the write.
+         *
+         * @param context    the application Context
+         * @param snapshot   the whole state of the Bracket
+         * @param numPlayers the number of Players in the Bracket, not including Byes
+         */
+        Archive(Context context, BracketSnapshot snapshot, int numPlayers) {
+            this.context = context;
+            this.snapshot = snapshot;
+            this.numPlayers = numPlayers;
+        }
+
+        @Override
+        protected void run() {
+            BracketDbHelper.getInstance(context).storeBracketSnapshot(snapshot, numPlayers);
+        }
+
+        @Override
+        protected boolean absorb(PersistenceExecutor.Write newer) {
+            if (!(newer instanceof Archive)) {
+                return false;
+            }
+            snapshot = ((Archive) newer).snapshot;
+            numPlayers = ((Archive) newer).numPlayers;
+            return true;
+        }
+    }
 }
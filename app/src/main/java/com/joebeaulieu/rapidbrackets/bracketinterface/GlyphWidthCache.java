@@ -0,0 +1,159 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.os.Build;
+import android.support.v4.widget.TextViewCompat;
+import android.text.TextPaint;
+import android.util.DisplayMetrics;
+import android.widget.Button;
+
+import java.util.HashMap;
+
+/**
+ * A process-wide cache of the on-screen width of each {@code Character}, keyed by text
+ * {@code style} and display density. Any screen can use it, so the widths for a text
+ * {@code style} are measured once per process rather than once per screen, and survive screen
+ * rotations.
+ * <p>
+ * Widths are held in primitive arrays indexed by {@code Character}, one page of 256
+ * {@code Character}s at a time. A page is measured the first time one of its {@code Character}s
+ * is asked for, so every {@code Character} can be measured, while only the pages in use take up
+ * memory.
+ * <p>
+ * The cache is thread-safe.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see CMDBuildBracketUI CMDBuildBracketUI
+ * @since 1.0.1
+ */
+public final class GlyphWidthCache {
+    /**
+     * The number of {@code Character}s in each page of widths.
+     */
+    private static final int PAGE_SIZE = 256;
+
+    /**
+     * The cached widths, keyed by text {@code style} and display density.
+     */
+    private static final HashMap<String, GlyphWidthCache> caches = new HashMap<>();
+
+    /**
+     * The paint the widths are measured with: that of a {@code Button} in the text {@code style}.
+     */
+    private final TextPaint paint;
+
+    /**
+     * The size, in pixels, of each {@code Character}, paged by its high byte. A page is null until
+     * it has been measured.
+     */
+    private final int[][] sizes = new int[Character.MAX_VALUE / PAGE_SIZE + 1][];
+
+    /**
+     * The padding, in pixels, the Android system adds to each {@code Character} when displaying it
+     * next to another, paged like {@code sizes}.
+     */
+    private final int[][] padding = new int[Character.MAX_VALUE / PAGE_SIZE + 1][];
+
+    /**
+     * Reused to measure each {@code Character}.
+     */
+    private final Rect bounds = new Rect();
+
+    /**
+     * Creates the widths for a text {@code style}. Only called from {@code get(Context, int)}.
+     *
+     * @param context     the Context the widths are measured in
+     * @param textStyleId the ID of the text style
+     */
+    private GlyphWidthCache(Context context, int textStyleId) {
+        Button container = new Button(context);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            container.setAllCaps(false);
+        }
+        TextViewCompat.setTextAppearance(container, textStyleId);
+        paint = new TextPaint(container.getPaint());
+    }
+
+    /**
+     * Returns the widths for the given text {@code style} at the current display density,
+     * creating them if they have not been yet. Must be called on the UI thread, since creating
+     * them creates a {@code Button}.
+     *
+     * @param context     the Context the widths are measured in
+     * @param textStyleId the ID of the text style
+     * @return            the widths for the text style
+     */
+    public static synchronized GlyphWidthCache get(Context context, int textStyleId) {
+        DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+        // scaledDensity includes the user's font size setting
+        String key = textStyleId + ":" + metrics.density + ":" + metrics.scaledDensity;
+        GlyphWidthCache cache = caches.get(key);
+        if (cache == null) {
+            // the Button only lends its paint, so the Context is not held onto
+            cache = new GlyphWidthCache(context, textStyleId);
+            caches.put(key, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the paint the widths are measured with. It must not be modified.
+     *
+     * @return the paint the widths are measured with
+     */
+    public TextPaint getPaint() {
+        return paint;
+    }
+
+    /**
+     * Returns the size, in pixels, of the given {@code Character} as displayed on-screen.
+     *
+     * @param c the Character
+     * @return  the size of the Character
+     */
+    public synchronized int getSize(char c) {
+        int index = c / PAGE_SIZE;
+        if (sizes[index] == null) {
+            measure(index);
+        }
+        return sizes[index][c % PAGE_SIZE];
+    }
+
+    /**
+     * Returns the padding, in pixels, the Android system adds to the given {@code Character} when
+     * displaying it next to another. This is measured between 2 {@code Character}s that are
+     * exactly the same; actual padding varies slightly when mixing {@code Character}s.
+     *
+     * @param c the Character
+     * @return  the padding added to the Character
+     */
+    public synchronized int getPadding(char c) {
+        int index = c / PAGE_SIZE;
+        if (padding[index] == null) {
+            measure(index);
+        }
+        return padding[index][c % PAGE_SIZE];
+    }
+
+    /**
+     * Measures the size and padding of every {@code Character} in the given page.
+     *
+     * @param index the index of the page; the high byte of its Characters
+     */
+    private void measure(int index) {
+        int[] pageSizes = new int[PAGE_SIZE];
+        int[] pagePadding = new int[PAGE_SIZE];
+        char[] pair = new char[2];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            pair[0] = pair[1] = (char) (index * PAGE_SIZE + i);
+            paint.getTextBounds(pair, 0, 1, bounds);
+            pageSizes[i] = bounds.width();
+            paint.getTextBounds(pair, 0, 2, bounds);
+            pagePadding[i] = bounds.width() - (2 * pageSizes[i]);
+        }
+        sizes[index] = pageSizes;
+        padding[index] = pagePadding;
+    }
+}
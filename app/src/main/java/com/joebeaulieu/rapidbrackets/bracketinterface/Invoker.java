@@ -1,9 +1,9 @@
 package com.joebeaulieu.rapidbrackets.bracketinterface;
 
 import android.content.Context;
-import android.widget.LinearLayout;
 
 import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshot;
 import com.joebeaulieu.rapidbrackets.exceptions.BracketNotCreatedException;
 
 /**
@@ -38,20 +38,46 @@ public class Invoker {
     }
 
     /**
-     * Creates the {@code Bracket} UI, adds it to the target {@code LinearLayout}, and displays it
-     * on-screen.
+     * Creates the {@code Bracket} UI, draws it on the target {@code BracketView}, and displays it
+     * on-screen. If a {@code BracketScene} retained from an earlier {@code BracketView} is given,
+     * and it lays out the current {@code Bracket}, it is drawn as it was left instead.
      *
-     * @param context the Context from which this Command sequence was initiated
-     * @param layout  the LinearLayout in which this Bracket UI is to be created
+     * @param context  the Context from which this Command sequence was initiated
+     * @param view     the BracketView on which this Bracket UI is to be drawn
+     * @param retained the BracketScene retained from an earlier BracketView, or null if there is none
+     * @return         the BracketScene drawn on the BracketView, to be retained
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public void buildBracketUI(Context context, LinearLayout layout) throws BracketNotCreatedException{
+    public BracketScene buildBracketUI(Context context, BracketView view, BracketScene retained) throws BracketNotCreatedException{
         if (agg == null) {
             throw new BracketNotCreatedException();
         } else {
-            CMDBuildBracketUI cmd = new CMDBuildBracketUI(agg, context, layout);
-            cmd.execute();
+            CMDBuildBracketUI cmd = new CMDBuildBracketUI(agg, context, view, retained);
+            return (BracketScene) cmd.execute();
+        }
+    }
+
+    /**
+     * Lays out the {@code Bracket} for nodes of the given size. Given a {@code TextCropper} built
+     * on the UI thread, it creates and touches no {@code View}, so that it may be called on a
+     * background thread. The result is then drawn with
+     * {@code buildBracketUI(Context, BracketView, BracketScene)}.
+     *
+     * @param context    the Context from which this Command sequence was initiated
+     * @param cropper    crops Seat names in the text style of the nodes
+     * @param nodeWidth  the width of a node, in pixels
+     * @param nodeHeight the height of a node, in pixels
+     * @return           the BracketScene of the Bracket
+     * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
+     *         Created
+     */
+    public BracketScene layoutBracket(Context context, TextCropper cropper, int nodeWidth, int nodeHeight) throws BracketNotCreatedException{
+        if (agg == null) {
+            throw new BracketNotCreatedException();
+        } else {
+            CMDLayoutBracket cmd = new CMDLayoutBracket(agg, context, cropper, nodeWidth, nodeHeight);
+            return (BracketScene) cmd.execute();
         }
     }
 
@@ -61,30 +87,25 @@ public class Invoker {
      * data structure.
      *
      * @param context the Context from which this Command sequence was initiated
-     * @param layout  the LinearLayout in which this Player is to be moved
-     * @param id      a String representation of the ID of the calling View and subsequently its
-     *                corresponding Player's ID in the Bracket (not including the Player ID's
-     *                leading Seat type identifier)
+     * @param view    the BracketView on which this Player is to be moved
+     * @param slot    the slot of the Player in the Bracket
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public void moveForward(Context context, LinearLayout layout, String id) throws BracketNotCreatedException{
+    public void moveForward(Context context, BracketView view, int slot) throws BracketNotCreatedException{
         if (agg == null) {
             throw new BracketNotCreatedException();
         } else {
             Bracket bracket = agg.getBracket();
-            int intID = Integer.parseInt(id);
-            int column = intID / 100;
-            int row = intID % 100;
+            int column = bracket.getColumn(slot);
 
             // if not at end of bracket
             // && there exists an opponent for activated player on current level
             // && the match between activated player and opponent has not yet been decided
-            if (column < agg.getBracket().size() - 1
-                    && ((row % 2 == 0 && bracket.get(column, row + 1) != null)
-                            || (row % 2 == 1 && bracket.get(column, row - 1) != null))
-                    && bracket.get(column + 1, row / 2) == null) {
-                CMDMoveForward cmd = new CMDMoveForward(agg, context, layout, id);
+            if (column < bracket.size() - 1
+                    && bracket.getSeat(bracket.getOpponentSlot(slot)) != null
+                    && bracket.getSeat(bracket.getParentSlot(slot)) == null) {
+                CMDMoveForward cmd = new CMDMoveForward(agg, context, view, slot);
                 cmd.execute();
             }
         }
@@ -96,71 +117,88 @@ public class Invoker {
      * data structure.
      *
      * @param context the Context from which this Command sequence was initiated
-     * @param layout  the LinearLayout in which this Player is to be moved
-     * @param id      a String representation of the ID of the calling View and subsequently its
-     *                corresponding Player's ID in the Bracket (not including the Player ID's
-     *                leading Seat type identifier)
+     * @param view    the BracketView on which this Player is to be moved
+     * @param slot    the slot of the Player in the Bracket
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public void moveBack(Context context, LinearLayout layout, String id) throws BracketNotCreatedException{
+    public void moveBack(Context context, BracketView view, int slot) throws BracketNotCreatedException{
         if (agg == null) {
             throw new BracketNotCreatedException();
         } else {
             Bracket bracket = agg.getBracket();
-            int intID = Integer.parseInt(id);
-            int column = intID / 100;
-            int row = intID % 100;
+            int column = bracket.getColumn(slot);
 
-            if (column == agg.getBracket().size() - 1 ||
-                    column > 0 && bracket.get(column + 1, row / 2) == null) {
-                CMDMoveBack cmd = new CMDMoveBack(agg, context, layout, id);
+            if (column == bracket.size() - 1 ||
+                    column > 0 && bracket.getSeat(bracket.getParentSlot(slot)) == null) {
+                CMDMoveBack cmd = new CMDMoveBack(agg, context, view, slot);
                 cmd.execute();
             }
         }
     }
 
     /**
-     * Deconstructs the {@code Bracket} and stores it in the {@code SQLiteDatabase}.
+     * Deconstructs the {@code Bracket} and stores it in the {@code SQLiteDatabase} in the
+     * background.
+     *
+     * @param context  the Context from which this command sequence was initiated
+     * @param callback notified on the UI thread once the Bracket has been stored; may be null
+     * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
+     *         Created
+     */
+    public void storeBracket(Context context, PersistenceExecutor.Callback<Void> callback) throws BracketNotCreatedException{
+        if (agg == null) {
+            throw new BracketNotCreatedException();
+        } else {
+            CMDStoreBracket cmd = new CMDStoreBracket(agg, context, false, callback);
+            cmd.execute();
+        }
+    }
+
+    /**
+     * Archives the {@code Bracket} in the {@code SQLiteDatabase} as a single binary snapshot in the
+     * background.
      *
-     * @param context the Context from which this command sequence was initiated
+     * @param context  the Context from which this command sequence was initiated
+     * @param callback notified on the UI thread once the Bracket has been archived; may be null
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public void storeBracket(Context context) throws BracketNotCreatedException{
+    public void storeBracketSnapshot(Context context, PersistenceExecutor.Callback<Void> callback) throws BracketNotCreatedException{
         if (agg == null) {
             throw new BracketNotCreatedException();
         } else {
-            CMDStoreBracket cmd = new CMDStoreBracket(agg, context);
+            CMDStoreBracket cmd = new CMDStoreBracket(agg, context, true, callback);
             cmd.execute();
         }
     }
 
     /**
-     * Deletes the target {@code Bracket} from the {@code SQLiteDatabase}.
+     * Deletes the target {@code Bracket} from the {@code SQLiteDatabase} in the background.
      *
      * @param context   the Context from which this command sequence was initiated
      * @param bracketId the ID of the Bracket to be Deleted
+     * @param callback  notified on the UI thread once the Bracket has been deleted; may be null
      */
-    public void deleteBracket(Context context, int bracketId) {
-        CMDDeleteBracket cmd = new CMDDeleteBracket(agg, context, bracketId);
+    public void deleteBracket(Context context, int bracketId, PersistenceExecutor.Callback<Void> callback) {
+        CMDDeleteBracket cmd = new CMDDeleteBracket(agg, context, bracketId, callback);
         cmd.execute();
     }
 
     /**
      * Returns the current state of the {@code Bracket} from the underlying {@code Bracket} data
-     * structure as an {@code ArrayList<Seat>} upcasted to an {@code ArrayList<Object>}. This
-     * {@code ArrayList} does not include empty slots in the {@code Bracket}.
+     * structure as a {@code BracketSnapshot}, which does not include empty slots in the
+     * {@code Bracket}.
      *
      * @return the current state of the Bracket
      * @throws BracketNotCreatedException thrown if this method is called before the Bracket is
      *         Created
      */
-    public Object getBracketState() throws BracketNotCreatedException{
+    public BracketSnapshot getBracketState() throws BracketNotCreatedException{
         if (agg == null) {
             throw new BracketNotCreatedException();
         } else {
-            return new CMDGetBracketState(agg).execute();
+            return (BracketSnapshot) new CMDGetBracketState(agg).execute();
         }
     }
 }
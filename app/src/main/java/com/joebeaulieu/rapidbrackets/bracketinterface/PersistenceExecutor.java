@@ -0,0 +1,271 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs all {@code SQLiteDatabase} work for the application on a single background thread, so the
+ * UI thread never waits on it. Work runs in the order it was submitted, so a read always sees the
+ * writes submitted before it. Results are delivered to a {@code Callback} on the UI thread.
+ * <p>
+ * Reads made by a single statement may instead be submitted with {@code read(Callable, Callback)}.
+ * While no write is waiting or running, they run at once on a small pool of reader threads rather
+ * than queueing behind other work, and, as the {@code SQLiteDatabase} uses write-ahead logging,
+ * they are not blocked by a write submitted after them.
+ * <p>
+ * Writes are keyed, usually by {@code Bracket} name. A write submitted while an earlier write with
+ * the same key is still waiting to start is offered to that earlier write to absorb, so rapid
+ * consecutive saves of the same {@code Bracket} reach the {@code SQLiteDatabase} as one.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @since 1.0.1
+ */
+public final class PersistenceExecutor {
+    /**
+     * Receives the result of work run by the {@code PersistenceExecutor}. Both methods are called
+     * on the UI thread.
+     *
+     * @param <T> the type of the result
+     */
+    public interface Callback<T> {
+        /**
+         * Called when the work has completed.
+         *
+         * @param result the result of the work; null for a write
+         */
+        void onSuccess(T result);
+
+        /**
+         * Called when the work has failed.
+         *
+         * @param e the exception the work failed with
+         */
+        void onFailure(Exception e);
+    }
+
+    /**
+     * A write to the {@code SQLiteDatabase} which may absorb later writes with the same key.
+     */
+    public abstract static class Write {
+        /**
+         * The callbacks of this write and of every write it has absorbed.
+         */
+        private final ArrayList<Callback<Void>> callbacks = new ArrayList<>();
+
+        /**
+         * Performs the write. Called on the background thread.
+         *
+         * @throws Exception if the write fails
+         */
+        protected abstract void run() throws Exception;
+
+        /**
+         * Offers a newer write with the same key to this write, which has not started yet. If
+         * this write takes over the newer write's work, it returns {@code true} and the newer
+         * write is never run. Called with the {@code PersistenceExecutor}'s lock held, from the
+         * thread submitting the newer write.
+         *
+         * @param newer the write submitted after this one
+         * @return      true if this write now also performs the newer write's work
+         */
+        protected boolean absorb(Write newer) {
+            return false;
+        }
+    }
+
+    /**
+     * The tag failed work is logged under.
+     */
+    private static final String TAG = "PersistenceExecutor";
+
+    /**
+     * The number of reader threads.
+     */
+    private static final int READER_THREADS = 2;
+
+    /**
+     * The single thread all writes, and all reads ordered after a write, run on.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(threadFactory("bracket-persistence"));
+
+    /**
+     * The threads single statement reads run on while no write is waiting or running.
+     */
+    private static final ExecutorService READERS = Executors.newFixedThreadPool(READER_THREADS, threadFactory("bracket-reader"));
+
+    /**
+     * Delivers results to the UI thread.
+     */
+    private static final Handler MAIN = new Handler(Looper.getMainLooper());
+
+    /**
+     * The latest write for each key which has not started yet. Also the lock for absorbing.
+     */
+    private static final HashMap<String, Write> WAITING = new HashMap<>();
+
+    /**
+     * The number of writes which have been submitted but have not yet completed. Guarded by
+     * {@code WAITING}.
+     */
+    private static int pendingWrites;
+
+    /**
+     * {@code PersistenceExecutor} only contains static methods and is never instantiated.
+     */
+    private PersistenceExecutor() {
+    }
+
+    /**
+     * Runs work which produces a result, such as a query, on the background thread.
+     *
+     * @param work     the work to run
+     * @param callback receives the result on the UI thread; may be null
+     * @param <T>      the type of the result
+     */
+    public static <T> void submit(Callable<T> work, Callback<T> callback) {
+        EXECUTOR.execute(call(work, callback));
+    }
+
+    /**
+     * Runs a read made by a single statement. If no write is waiting or running it runs at once on
+     * a reader thread; otherwise it is queued behind those writes, so it still sees them. A read
+     * made by several statements must use {@code submit(Callable, Callback)}, since a write
+     * submitted after it could otherwise complete between its statements.
+     *
+     * @param read     the read to run
+     * @param callback receives the result on the UI thread; may be null
+     * @param <T>      the type of the result
+     * @see #submit(Callable, Callback) submit(Callable, Callback)
+     */
+    public static <T> void read(Callable<T> read, Callback<T> callback) {
+        synchronized (WAITING) {
+            (pendingWrites == 0 ? READERS : EXECUTOR).execute(call(read, callback));
+        }
+    }
+
+    /**
+     * Runs a write on the background thread, letting the waiting write with the same key absorb
+     * it if it can.
+     *
+     * @param key      the key of the write, usually the name of the Bracket being written
+     * @param write    the write to run
+     * @param callback notified on the UI thread once the write, or the write that absorbed it,
+     *                 has completed; may be null
+     */
+    public static void submit(final String key, final Write write, Callback<Void> callback) {
+        synchronized (WAITING) {
+            Write waiting = WAITING.get(key);
+            if (waiting != null && waiting.absorb(write)) {
+                if (callback != null) {
+                    waiting.callbacks.add(callback);
+                }
+                return;
+            }
+            if (callback != null) {
+                write.callbacks.add(callback);
+            }
+            WAITING.put(key, write);
+            pendingWrites++;
+        }
+        EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                // once started, the write can no longer absorb anything
+                synchronized (WAITING) {
+                    if (WAITING.get(key) == write) {
+                        WAITING.remove(key);
+                    }
+                }
+                Exception failure = null;
+                try {
+                    write.run();
+                } catch (Exception e) {
+                    failure = e;
+                } finally {
+                    synchronized (WAITING) {
+                        pendingWrites--;
+                    }
+                }
+                for (Callback<Void> callback : write.callbacks) {
+                    deliver(callback, null, failure);
+                }
+            }
+        });
+    }
+
+    /**
+     * Wraps work which produces a result so that its result, or failure, is delivered to a
+     * {@code Callback}.
+     *
+     * @param work     the work to run
+     * @param callback receives the result on the UI thread; may be null
+     * @param <T>      the type of the result
+     * @return         the work as a Runnable
+     */
+    private static <T> Runnable call(final Callable<T> work, final Callback<T> callback) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    deliver(callback, work.call(), null);
+                } catch (Exception e) {
+                    deliver(callback, null, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates the daemon threads the {@code PersistenceExecutor}'s work runs on, so they never
+     * keep the process alive.
+     *
+     * @param name the name given to each thread
+     * @return     the ThreadFactory
+     */
+    private static ThreadFactory threadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Posts a result, or a failure, to a {@code Callback} on the UI thread.
+     *
+     * @param callback the Callback; nothing is posted if it is null
+     * @param result   the result of the work
+     * @param failure  the exception the work failed with, or null if it succeeded
+     * @param <T>      the type of the result
+     */
+    private static <T> void deliver(final Callback<T> callback, final T result, final Exception failure) {
+        if (failure != null) {
+            Log.e(TAG, "Database work failed", failure);
+        }
+        if (callback == null) {
+            return;
+        }
+        MAIN.post(new Runnable() {
+            @Override
+            public void run() {
+                if (failure == null) {
+                    callback.onSuccess(result);
+                } else {
+                    callback.onFailure(failure);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.joebeaulieu.rapidbrackets.exceptions.BracketNotCreatedException;
+
+/**
+ * Routes taps and long presses on the nodes of a {@code BracketView} to the {@code Player}
+ * movement {@code Command}s. There is one {@code SlotClickDispatcher} per {@code BracketView},
+ * however many nodes it draws, and the tapped node is passed through as its slot, so a tap
+ * allocates no listeners, IDs, or {@code String}s on its way to the {@code Bracket}.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketView#setOnSlotClickListener(BracketView.OnSlotClickListener) BracketView.setOnSlotClickListener(OnSlotClickListener)
+ * @since 1.0.1
+ */
+final class SlotClickDispatcher implements BracketView.OnSlotClickListener {
+    /**
+     * The tag failed moves are logged under.
+     */
+    private static final String TAG = "SlotClickDispatcher";
+
+    /**
+     * The {@code Context} from which the {@code Command} sequences are initiated.
+     */
+    private final Context context;
+
+    /**
+     * The {@code BracketView} whose nodes are dispatched.
+     */
+    private final BracketView view;
+
+    /**
+     * The sole constructor for the {@code SlotClickDispatcher} class.
+     *
+     * @param context the Context from which the Command sequences are initiated
+     * @param view    the BracketView whose nodes are dispatched
+     */
+    SlotClickDispatcher(Context context, BracketView view) {
+        this.context = context;
+        this.view = view;
+    }
+
+    /**
+     * Moves the {@code Player} in the tapped node forwards.
+     *
+     * @param slot the slot of the tapped node
+     */
+    @Override
+    public void onSlotClick(int slot) {
+        try {
+            BracketInterface.moveForward(context, view, slot);
+        } catch (BracketNotCreatedException e) {
+            Log.e(TAG, "Tapped a node before the Bracket was created", e);
+        }
+    }
+
+    /**
+     * Moves the {@code Player} in the long pressed node backwards.
+     *
+     * @param slot the slot of the long pressed node
+     */
+    @Override
+    public void onSlotLongClick(int slot) {
+        try {
+            BracketInterface.moveBack(context, view, slot);
+        } catch (BracketNotCreatedException e) {
+            Log.e(TAG, "Long pressed a node before the Bracket was created", e);
+        }
+    }
+}
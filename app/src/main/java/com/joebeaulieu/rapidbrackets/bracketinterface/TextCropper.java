@@ -0,0 +1,164 @@
+package com.joebeaulieu.rapidbrackets.bracketinterface;
+
+import android.text.TextPaint;
+
+import java.text.BreakIterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Crops text to fit a width, cutting off {@code Character}s to make room for, and adding, an
+ * ellipsis (...). There is one {@code TextCropper} per {@code GlyphWidthCache}, so per text
+ * {@code style} and display density, and it remembers the text it has cropped, so a name shown in
+ * many nodes, or again after a screen rotation, is only cropped once.
+ * <p>
+ * The cut is first estimated in a single pass over the cached {@code Character} widths, then
+ * settled by a binary search measuring the actual text, which takes kerning and any
+ * {@code Character} into account. The cut is always made between user-perceived characters, so
+ * surrogate pairs and combining marks are never split.
+ * <p>
+ * The {@code TextCropper} is thread-safe.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see GlyphWidthCache GlyphWidthCache
+ * @since 1.0.1
+ */
+public final class TextCropper {
+    /**
+     * The ellipsis added to cropped text.
+     */
+    private static final String ELLIPSIS = "...";
+
+    /**
+     * The most cropped texts remembered by each {@code TextCropper}. The least recently used are
+     * forgotten first.
+     */
+    private static final int MAX_ENTRIES = 1024;
+
+    /**
+     * The {@code TextCropper} of each {@code GlyphWidthCache}.
+     */
+    private static final HashMap<GlyphWidthCache, TextCropper> croppers = new HashMap<>();
+
+    /**
+     * The widths of each {@code Character} in the text {@code style}.
+     */
+    private final GlyphWidthCache glyphWidths;
+
+    /**
+     * The paint the text is measured with.
+     */
+    private final TextPaint paint;
+
+    /**
+     * The width of the ellipsis, in pixels.
+     */
+    private final float ellipsisWidth;
+
+    /**
+     * Finds the boundaries between user-perceived characters.
+     */
+    private final BreakIterator characters = BreakIterator.getCharacterInstance();
+
+    /**
+     * The cropped texts, keyed by width and original text.
+     */
+    private final LinkedHashMap<String, String> cropped = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Creates the {@code TextCropper} of a {@code GlyphWidthCache}. Only called from
+     * {@code get(GlyphWidthCache)}.
+     *
+     * @param glyphWidths the widths of each Character in the text style
+     */
+    private TextCropper(GlyphWidthCache glyphWidths) {
+        this.glyphWidths = glyphWidths;
+        paint = glyphWidths.getPaint();
+        ellipsisWidth = paint.measureText(ELLIPSIS);
+    }
+
+    /**
+     * Returns the {@code TextCropper} for the text {@code style} of the given
+     * {@code GlyphWidthCache}, creating it if it has not been yet.
+     *
+     * @param glyphWidths the widths of each Character in the text style
+     * @return            the TextCropper for the text style
+     */
+    public static synchronized TextCropper get(GlyphWidthCache glyphWidths) {
+        TextCropper cropper = croppers.get(glyphWidths);
+        if (cropper == null) {
+            cropper = new TextCropper(glyphWidths);
+            croppers.put(glyphWidths, cropper);
+        }
+        return cropper;
+    }
+
+    /**
+     * Returns the given text as it fits within the given width: unchanged if it already fits,
+     * otherwise cut short with an ellipsis.
+     *
+     * @param text     the text to crop
+     * @param maxWidth the width, in pixels, to fit the text within
+     * @return         the text, cropped if necessary
+     */
+    public synchronized String crop(String text, int maxWidth) {
+        String key = maxWidth + ":" + text;
+        String result = cropped.get(key);
+        if (result == null) {
+            result = paint.measureText(text) <= maxWidth ? text : cut(text, maxWidth - ellipsisWidth) + ELLIPSIS;
+            cropped.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the longest start of the given text which fits within the given width, ending on a
+     * boundary between user-perceived characters.
+     *
+     * @param text      the text to cut
+     * @param available the width, in pixels, to fit the start of the text within
+     * @return          the longest start of the text which fits
+     */
+    private String cut(String text, float available) {
+        // estimate the cut from the cached widths
+        int estimate = 0;
+        int width = 0;
+        while (estimate < text.length()) {
+            char c = text.charAt(estimate);
+            width += glyphWidths.getSize(c) + (estimate > 0 ? glyphWidths.getPadding(c) : 0);
+            if (width > available) {
+                break;
+            }
+            estimate++;
+        }
+
+        // settle it by measuring; the start of length low always fits,
+        // and the start of length high + 1 never does
+        int low = 0;
+        int high = text.length() - 1;
+        if (paint.measureText(text, 0, estimate) <= available) {
+            low = estimate;
+        } else {
+            high = estimate - 1;
+        }
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (paint.measureText(text, 0, middle) <= available) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        characters.setText(text);
+        int end = characters.isBoundary(low) ? low : characters.preceding(low);
+        return text.substring(0, end);
+    }
+}
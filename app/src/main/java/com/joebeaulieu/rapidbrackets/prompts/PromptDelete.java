@@ -10,17 +10,18 @@ import android.os.Bundle;
 import android.widget.Toast;
 
 import com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface;
+import com.joebeaulieu.rapidbrackets.bracketinterface.PersistenceExecutor;
 import com.joebeaulieu.rapidbrackets.activities.LoadBracket;
 import com.joebeaulieu.rapidbrackets.activities.R;
 
 /**
  * A prompt, in the form of an {@code AlertDialog}, which asks the user whether or not they want to
  * delete the selected {@code Bracket} from the {@code SQLiteDatabase}, then performs the requested
- * action. Deletion is handled via {@code BracketInterface.deleteBracket(Context, int)}.
+ * action. Deletion is handled via {@code BracketInterface.deleteBracket(Context, int, Callback)}.
  *
  * @author Joe Beaulieu
  * @version 1.0.1
- * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#deleteBracket(Context, int)  BracketInterface.deleteBracket(Context, int)
+ * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#deleteBracket(Context, int, PersistenceExecutor.Callback) BracketInterface.deleteBracket(Context, int, Callback)
  * @since 1.0.0
  */
 public class PromptDelete extends DialogFragment{
@@ -31,16 +32,14 @@ public class PromptDelete extends DialogFragment{
      * @param title     a String representation of the title for this prompt
      * @param msg       a String representation of the message to be displayed by this prompt
      * @param bracketId the ID of the Bracket to be deleted
-     * @param rowId     the ID of the currently selected row
      * @return          returns a new instance of the PromptDelete class
      */
-    public static PromptDelete newInstance(String title, String msg, int bracketId, int rowId) {
+    public static PromptDelete newInstance(String title, String msg, int bracketId) {
         PromptDelete prompt = new PromptDelete();
         Bundle args = new Bundle();
         args.putString("title", title);
         args.putString("message", msg);
         args.putInt("bracketId", bracketId);
-        args.putInt("rowId", rowId);
         prompt.setArguments(args);
         return prompt;
     }
@@ -51,7 +50,7 @@ public class PromptDelete extends DialogFragment{
      *
      * @param savedInstanceState the Bundle in which unique information for this prompt is stored
      * @return                   returns the newly constructed AlertDialog
-     * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#deleteBracket(Context, int)  BracketInterface.deleteBracket(Context, int)
+     * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#deleteBracket(Context, int, PersistenceExecutor.Callback) BracketInterface.deleteBracket(Context, int, Callback)
      */
     @Override
     public Dialog onCreateDialog(Bundle savedInstanceState) {
@@ -59,19 +58,26 @@ public class PromptDelete extends DialogFragment{
         String title = getArguments().getString("title");
         String msg = getArguments().getString("message");
         final int bracketId = getArguments().getInt("bracketId");
-        final int rowId = getArguments().getInt("rowId");
         return new AlertDialog.Builder(getActivity(), R.style.UserPrompts)
                 .setTitle(title)
                 .setMessage(msg)
                 .setPositiveButton(R.string.button_ok, new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        BracketInterface.deleteBracket(activity, bracketId);
-                        ((LoadBracket) activity).removeRow(rowId);
-                        ((LoadBracket) activity).addAdditionalRows();
-                        ((LoadBracket) activity).resetRowColors();
-                        Toast bracketSaved = Toast.makeText(activity, R.string.toast_bracket_deleted, Toast.LENGTH_SHORT);
-                        bracketSaved.show();
+                        final Context appContext = activity.getApplicationContext();
+                        BracketInterface.deleteBracket(activity, bracketId, new PersistenceExecutor.Callback<Void>() {
+                            @Override
+                            public void onSuccess(Void result) {
+                                Toast.makeText(appContext, R.string.toast_bracket_deleted, Toast.LENGTH_SHORT).show();
+                            }
+
+                            @Override
+                            public void onFailure(Exception e) {
+                                // the failure has already been logged by the PersistenceExecutor
+                            }
+                        });
+                        // the table is reloaded straight away, queued behind the deletion
+                        ((LoadBracket) activity).removeBracket(bracketId);
                     }
                 })
                 .setNegativeButton(R.string.button_cancel, new DialogInterface.OnClickListener() {
@@ -11,17 +11,19 @@ import android.support.v4.app.NavUtils;
 import android.widget.Toast;
 
 import com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface;
+import com.joebeaulieu.rapidbrackets.bracketinterface.PersistenceExecutor;
 import com.joebeaulieu.rapidbrackets.activities.R;
 import com.joebeaulieu.rapidbrackets.exceptions.BracketNotCreatedException;
 
 /**
  * A prompt, in the form of an {@code AlertDialog}, which asks the user whether or not they want to
  * save the active {@code Bracket} before leaving the current screen. Save functionality is provided
- * via {@code BracketInterface.storeBracket(Context)}.
+ * via {@code BracketInterface.storeBracketSnapshot(Context, Callback)}, which archives the
+ * {@code Bracket} as a single binary snapshot in the background.
  *
  * @author Joe Beaulieu
  * @version 1.0.1
- * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#storeBracket(Context) BracketInterface.storeBracket(Context)
+ * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#storeBracketSnapshot(Context, PersistenceExecutor.Callback) BracketInterface.storeBracketSnapshot(Context, Callback)
  * @since 1.0.0
  */
 public class PromptSave extends DialogFragment{
@@ -49,7 +51,7 @@ public class PromptSave extends DialogFragment{
      *
      * @param savedInstanceState the Bundle in which unique information for this prompt is stored
      * @return                   returns the newly constructed AlertDialog
-     * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#storeBracket(Context) BracketInterface.storeBracket(Context)
+     * @see com.joebeaulieu.rapidbrackets.bracketinterface.BracketInterface#storeBracketSnapshot(Context, PersistenceExecutor.Callback) BracketInterface.storeBracketSnapshot(Context, Callback)
      */
     public Dialog onCreateDialog(Bundle savedInstanceState) {
         final Activity activity = getActivity();
@@ -67,14 +69,25 @@ public class PromptSave extends DialogFragment{
                 .setPositiveButton(R.string.button_save, new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
+                        // the Toasts outlive this screen, so they use the application Context
+                        final Context appContext = activity.getApplicationContext();
                         try {
-                            BracketInterface.storeBracket(activity);
+                            // the Bracket is being put away, so it is archived whole
+                            BracketInterface.storeBracketSnapshot(activity, new PersistenceExecutor.Callback<Void>() {
+                                @Override
+                                public void onSuccess(Void result) {
+                                    Toast.makeText(appContext, R.string.toast_bracket_saved, Toast.LENGTH_SHORT).show();
+                                }
+
+                                @Override
+                                public void onFailure(Exception e) {
+                                    Toast.makeText(appContext, R.string.toast_bracket_save_error, Toast.LENGTH_SHORT).show();
+                                }
+                            });
                         } catch (BracketNotCreatedException e) {
                             System.out.println(e.getMessage());
                             e.printStackTrace();
                         }
-                        Toast bracketSaved = Toast.makeText(activity, R.string.toast_bracket_saved, Toast.LENGTH_SHORT);
-                        bracketSaved.show();
                         NavUtils.navigateUpFromSameTask(activity);
                     }
                 })
@@ -0,0 +1,141 @@
+package com.joebeaulieu.rapidbrackets.bench;
+
+import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketFactory;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSE;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshot;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotReader;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSnapshotWriter;
+import com.joebeaulieu.rapidbrackets.bracketds.PlanterSE;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating a {@code BracketSE}, taking a snapshot of its state as the
+ * {@code CMDGetBracketState} {@code Command} does, writing and reading that snapshot in the binary
+ * snapshot format, and recreating the {@code Bracket} from it.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketSE BracketSE
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BracketSEBenchmark {
+    /**
+     * The number of leaves in the {@code Bracket}, up to {@code BracketSE.MAX_LEAVES}, which
+     * {@code create()} is expected to build in well under a second.
+     */
+    @Param({"8", "64", "512", "4096", "65536", "1048576"})
+    public int leaves;
+
+    /**
+     * The shape of the field. Either {@code Fields.POWER_OF_TWO} or {@code Fields.BYE_HEAVY}.
+     */
+    @Param({Fields.POWER_OF_TWO, Fields.BYE_HEAVY})
+    public String shape;
+
+    /**
+     * The names of the {@code Player}s in the field.
+     */
+    private String[] names;
+
+    /**
+     * The seeds of the {@code Player}s in the field.
+     */
+    private Integer[] seeds;
+
+    /**
+     * A {@code Bracket} whose first round has been played, so its state marks slots as
+     * {@code Remnant}s and fills a second column.
+     */
+    private Bracket played;
+
+    /**
+     * The saved state of {@code played}.
+     */
+    private BracketSnapshot saved;
+
+    /**
+     * The saved state of {@code played} in the binary snapshot format.
+     */
+    private byte[] savedBytes;
+
+    /**
+     * Builds the field, and a played {@code Bracket} with its saved state.
+     */
+    @Setup
+    public void setUp() {
+        int players = Fields.players(leaves, shape);
+        names = Fields.names(players);
+        seeds = Fields.seeds(players);
+        played = new BracketSE("Played", names, seeds, new PlanterSE());
+        Fields.playColumn(played, 0);
+        saved = snapshot();
+        savedBytes = write();
+    }
+
+    /**
+     * Creates a new {@code Bracket} from the field.
+     *
+     * @return the new Bracket
+     */
+    @Benchmark
+    public Bracket create() {
+        return new BracketSE("Bench", names, seeds, new PlanterSE());
+    }
+
+    /**
+     * Takes a snapshot of the played {@code Bracket}'s state, as {@code CMDGetBracketState} does.
+     *
+     * @return the state of the Bracket
+     */
+    @Benchmark
+    public BracketSnapshot snapshot() {
+        return BracketSnapshot.of(played);
+    }
+
+    /**
+     * Writes the played {@code Bracket}'s state in the binary snapshot format, as it is saved to
+     * the {@code SQLiteDatabase}.
+     *
+     * @return the state of the Bracket as bytes
+     */
+    @Benchmark
+    public byte[] write() {
+        return BracketSnapshotWriter.write(saved);
+    }
+
+    /**
+     * Reads the played {@code Bracket}'s state back from the binary snapshot format, as it is
+     * loaded from the {@code SQLiteDatabase}.
+     *
+     * @return the state of the Bracket
+     */
+    @Benchmark
+    public BracketSnapshot read() {
+        return BracketSnapshotReader.read(savedBytes);
+    }
+
+    /**
+     * Recreates the played {@code Bracket} from its saved state, as a loaded {@code Bracket} is,
+     * which runs {@code reconstructGrid(String[], int[])}.
+     *
+     * @return the recreated Bracket
+     */
+    @Benchmark
+    public Bracket reconstruct() {
+        return BracketFactory.getBracket(saved);
+    }
+}
@@ -0,0 +1,129 @@
+package com.joebeaulieu.rapidbrackets.bench;
+
+import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
+
+/**
+ * Builds the inputs shared by the benchmarks, and plays matches on the {@code Bracket} model the
+ * same way the {@code CMDMoveForward} and {@code CMDMoveBack} {@code Command}s do in the app.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @since 1.0.1
+ */
+final class Fields {
+    /**
+     * A field whose size is a power of 2, so it has no {@code Bye}s.
+     */
+    static final String POWER_OF_TWO = "POWER_OF_TWO";
+
+    /**
+     * A field one larger than half of a power of 2, so almost half of the leaves are {@code Bye}s.
+     */
+    static final String BYE_HEAVY = "BYE_HEAVY";
+
+    /**
+     * {@code Fields} only contains static methods and is never instantiated.
+     */
+    private Fields() {
+    }
+
+    /**
+     * Returns the number of {@code Player}s in a field of the given shape. Both shapes fill the
+     * same number of leaves.
+     *
+     * @param leaves the number of leaves in the Bracket; a power of 2
+     * @param shape  either Fields.POWER_OF_TWO or Fields.BYE_HEAVY
+     * @return       the number of Players in the field
+     */
+    static int players(int leaves, String shape) {
+        return BYE_HEAVY.equals(shape) ? leaves / 2 + 1 : leaves;
+    }
+
+    /**
+     * Returns a name for each of the given number of {@code Player}s.
+     *
+     * @param players the number of Players in the field
+     * @return        a String[] of Player names
+     */
+    static String[] names(int players) {
+        String[] names = new String[players];
+        for (int i = 0; i < players; i++) {
+            names[i] = "Player " + i;
+        }
+        return names;
+    }
+
+    /**
+     * Returns seeds for the given number of {@code Player}s, where only the first half are seeded,
+     * so both the seeded and random paths are taken.
+     *
+     * @param players the number of Players in the field
+     * @return        an Integer[] of seeds, with null for each non-seeded Player
+     */
+    static Integer[] seeds(int players) {
+        Integer[] seeds = new Integer[players];
+        for (int i = 0; i < players / 2; i++) {
+            seeds[i] = i + 1;
+        }
+        return seeds;
+    }
+
+    /**
+     * Advances the winner of every match in the given column, picking the top {@code Seat} unless
+     * it is a {@code Bye}.
+     *
+     * @param bracket the Bracket to play
+     * @param column  the column whose matches are played
+     * @return        the number of moves made
+     */
+    static int playColumn(Bracket bracket, int column) {
+        int first = bracket.getSlot(column, 0);
+        int end = first + bracket.columnSize(column);
+        for (int top = first; top < end; top += 2) {
+            moveForward(bracket, bracket.isBye(top) ? bracket.getOpponentSlot(top) : top);
+        }
+        return bracket.columnSize(column) / 2;
+    }
+
+    /**
+     * Moves every {@code Player} in the given column back to the slot it advanced from.
+     *
+     * @param bracket the Bracket to rewind
+     * @param column  the column whose Players are moved back; never the first column
+     * @return        the number of moves made
+     */
+    static int rewindColumn(Bracket bracket, int column) {
+        int first = bracket.getSlot(column, 0);
+        int end = first + bracket.columnSize(column);
+        for (int slot = first; slot < end; slot++) {
+            moveBack(bracket, slot);
+        }
+        return bracket.columnSize(column);
+    }
+
+    /**
+     * Moves the {@code Player} at the given slot forwards, as {@code CMDMoveForward} does.
+     *
+     * @param bracket the Bracket to play
+     * @param slot    the slot of the Player
+     */
+    static void moveForward(Bracket bracket, int slot) {
+        bracket.setSeat(bracket.getParentSlot(slot), bracket.getSeat(slot));
+        bracket.setRemnant(slot, true);
+    }
+
+    /**
+     * Moves the {@code Player} at the given slot backwards, as {@code CMDMoveBack} does.
+     *
+     * @param bracket the Bracket to rewind
+     * @param slot    the slot of the Player
+     */
+    static void moveBack(Bracket bracket, int slot) {
+        int prevSlot = bracket.getChildSlot(slot);
+        if (!bracket.isRemnant(prevSlot)) {
+            prevSlot = bracket.getOpponentSlot(prevSlot);
+        }
+        bracket.setSeat(prevSlot, bracket.getSeat(slot));
+        bracket.setSeat(slot, null);
+    }
+}
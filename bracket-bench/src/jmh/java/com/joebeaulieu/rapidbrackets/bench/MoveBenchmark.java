@@ -0,0 +1,103 @@
+package com.joebeaulieu.rapidbrackets.bench;
+
+import com.joebeaulieu.rapidbrackets.bracketds.Bracket;
+import com.joebeaulieu.rapidbrackets.bracketds.BracketSE;
+import com.joebeaulieu.rapidbrackets.bracketds.PlanterSE;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the model-side work of the {@code CMDMoveForward} and {@code CMDMoveBack}
+ * {@code Command}s: playing a whole {@code Bracket} forwards and rewinding it, and single moves.
+ * Each invocation leaves the {@code Bracket} as it found it. {@code moveForwardAndBack()} is
+ * reported per move, so the gc profiler's {@code gc.alloc.rate.norm} for it is the bytes allocated
+ * by a single move.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveBenchmark {
+    /**
+     * The number of leaves in the {@code Bracket}.
+     */
+    @Param({"8", "64", "512", "4096", "65536"})
+    public int leaves;
+
+    /**
+     * The shape of the field. Either {@code Fields.POWER_OF_TWO} or {@code Fields.BYE_HEAVY}.
+     */
+    @Param({Fields.POWER_OF_TWO, Fields.BYE_HEAVY})
+    public String shape;
+
+    /**
+     * The {@code Bracket} being played.
+     */
+    private Bracket bracket;
+
+    /**
+     * The slot of the next first-column {@code Player} moved by {@code moveForwardAndBack()}.
+     */
+    private int next;
+
+    /**
+     * Creates the {@code Bracket}.
+     */
+    @Setup
+    public void setUp() {
+        int players = Fields.players(leaves, shape);
+        bracket = new BracketSE("Bench", Fields.names(players), Fields.seeds(players), new PlanterSE());
+        next = bracket.getSlot(0, 0);
+    }
+
+    /**
+     * Plays every match up to the champion, then moves every {@code Player} back to the first
+     * column. Every match is one move forwards, and every slot after the first column is one move
+     * back.
+     *
+     * @return the number of moves made
+     */
+    @Benchmark
+    public int playAndRewind() {
+        int count = 0;
+        for (int column = 0; column < bracket.size() - 1; column++) {
+            count += Fields.playColumn(bracket, column);
+        }
+        for (int column = bracket.size() - 1; column > 0; column--) {
+            count += Fields.rewindColumn(bracket, column);
+        }
+        return count;
+    }
+
+    /**
+     * Moves the top {@code Player} of the next first-column match forwards and back again, cycling
+     * through every match in the column.
+     *
+     * @return the Bracket
+     */
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public Bracket moveForwardAndBack() {
+        int slot = bracket.isBye(next) ? bracket.getOpponentSlot(next) : next;
+        Fields.moveForward(bracket, slot);
+        Fields.moveBack(bracket, bracket.getParentSlot(slot));
+        next += 2;
+        if (next == 2 * leaves) {
+            next = leaves;
+        }
+        return bracket;
+    }
+}
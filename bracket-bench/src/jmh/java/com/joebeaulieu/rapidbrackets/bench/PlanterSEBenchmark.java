@@ -0,0 +1,84 @@
+package com.joebeaulieu.rapidbrackets.bench;
+
+import com.joebeaulieu.rapidbrackets.bracketds.PlanterSE;
+import com.joebeaulieu.rapidbrackets.seats.Bye;
+import com.joebeaulieu.rapidbrackets.seats.Player;
+import com.joebeaulieu.rapidbrackets.seats.Seat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks planting a starting lineup with {@code PlanterSE}.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see PlanterSE PlanterSE
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlanterSEBenchmark {
+    /**
+     * The number of leaves in the {@code Bracket}.
+     */
+    @Param({"8", "64", "512", "4096", "65536"})
+    public int leaves;
+
+    /**
+     * The shape of the field. Either {@code Fields.POWER_OF_TWO} or {@code Fields.BYE_HEAVY}.
+     */
+    @Param({Fields.POWER_OF_TWO, Fields.BYE_HEAVY})
+    public String shape;
+
+    /**
+     * The leaves to be planted, in their original unsorted order.
+     */
+    private Seat[] allLeaves;
+
+    /**
+     * The heap the leaves are planted in; reused by every invocation.
+     */
+    private Seat[] bracket;
+
+    /**
+     * The {@code PlanterSE} being measured.
+     */
+    private PlanterSE planter;
+
+    /**
+     * Builds the leaves with shuffled seeds, and fills the rest with {@code Bye}s.
+     */
+    @Setup
+    public void setUp() {
+        int players = Fields.players(leaves, shape);
+        Random rand = new Random(42);
+        allLeaves = new Seat[leaves];
+        for (int i = 0; i < leaves; i++) {
+            allLeaves[i] = i < players ? new Player("Player " + i, rand.nextInt(Integer.MAX_VALUE)) : Bye.getInstance();
+        }
+        bracket = new Seat[2 * leaves];
+        planter = new PlanterSE();
+    }
+
+    /**
+     * Plants a copy of the leaves, since {@code plant} sorts the array it is given.
+     *
+     * @return the planted heap
+     */
+    @Benchmark
+    public Seat[] plant() {
+        planter.plant(bracket, allLeaves.clone(), leaves);
+        return bracket;
+    }
+}
@@ -0,0 +1,280 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.Seat;
+
+/**
+ * The interface for the different types of {@code Bracket}s the app supports. As of now, {@code BracketSE}
+ * is the only implemented subclass.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public interface Bracket {
+    /**
+     * Used to denote a single elimination {@code Bracket}.
+     */
+    int SINGLE_ELIM = 0;
+
+    /**
+     * Used to denote a double elimination {@code Bracket}.
+     */
+    int DOUBLE_ELIM = 1;
+
+    /**
+     * Used to denote {@code Player}s in the Winners' {@code Bracket} tier.
+     */
+    int WINNERS_BRACKET = 0;
+
+    /**
+     * Used to denote {@code Player}s in the Losers' {@code Bracket} tier.
+     */
+    int LOSERS_BRACKET = 1;
+
+    /**
+     * Used to denote {@code Player}s in the Finalists' sub-{@code Bracket} tier.
+     */
+    int FINALISTS_SUBBRACKET = 2;
+
+    /**
+     * Takes the current state of the {@code Bracket} and recreates it. The {@code Bracket}'s state
+     * is comprised of {@code Seat}s from all levels of the {@code Bracket}, along with their
+     * corresponding IDs. Each ID's column and row give the heap slot its {@code Seat} is placed
+     * in, and its type marks the slots that are {@code Remnant}s. Slots the state does not
+     * mention are left empty, ready for the {@code Bracket} to be laid out by the
+     * {@code CMDLayoutBracket} class and displayed on-screen.
+     * <p>
+     * The slots form an implicit heap: slot 1 is the final node, the children of slot {@code s}
+     * are slots {@code 2s} and {@code 2s + 1}, and column {@code c} is the contiguous run of slots
+     * {@code [leaves >> c, 2 * (leaves >> c))}. Visually, a {@code Bracket} of four
+     * {@code Player}s, from slot 1 onwards, looks like:
+     * <pre>
+     *      [null, null, null, P1, P2, P3, P4]
+     * </pre>
+     * This appears on-screen like this ({@code null} values are shown as empty text):
+     * <pre>
+     *      P1
+     *         > null
+     *      P2
+     *                > null
+     *      P3
+     *         > null
+     *      P4
+     * </pre>
+     *
+     * @param seatNameState a String[] which represents the currently saved state of the Bracket in
+     *                      terms of Seat names. This array does not contain information on the
+     *                      empty places in the Bracket
+     * @param seatIdState   an int[] which represents the packed IDs of each Seat in the Bracket.
+     *                      Each ID holds the Seat's type, its tier, and the column and row of its
+     *                      position, as encoded by SeatID. The index of each ID is the index of its
+     *                      corresponding Seat in the seatNameState array
+     * @see #WINNERS_BRACKET      WINNERS_BRACKET
+     * @see #LOSERS_BRACKET       LOSERS_BRACKET
+     * @see #FINALISTS_SUBBRACKET FINALISTS_SUBBRACKET
+     */
+    void reconstructGrid(String[] seatNameState, int[] seatIdState);
+
+    /**
+     * Returns the name of the {@code Bracket}.
+     *
+     * @return the name of the Bracket
+     */
+    String getName();
+
+    /**
+     * Returns an entire column of the {@code Bracket} in the form of a {@code Seat[]}.
+     *
+     * @param i the index of the column to be returned
+     * @return  the desired column as a Seat[]
+     */
+    Seat[] get(int i);
+
+    /**
+     * Returns an individual {@code Seat} from the {@code Bracket}.
+     *
+     * @param i the index of the row in which the desired Seat is located
+     * @param j the index of the Seat to be returned
+     * @return  the desired Seat
+     */
+    Seat get(int i, int j);
+
+    /**
+     * Returns the number of {@code Seat}s the given column of the {@code Bracket} can hold. Unlike
+     * {@code get(int).length}, this never allocates.
+     *
+     * @param i the index of the column
+     * @return  the number of Seats in the column
+     */
+    int columnSize(int i);
+
+    /**
+     * Returns the slot of the {@code Seat} at the given column and row. Slots are primitive indices
+     * into the {@code Bracket} tree, and are used with {@code getParentSlot(int)},
+     * {@code getOpponentSlot(int)}, and {@code getChildSlot(int)} to navigate between matches
+     * without re-deriving columns and rows.
+     *
+     * @param column the column of the Seat
+     * @param row    the row of the Seat within its column
+     * @return       the slot of the Seat
+     */
+    int getSlot(int column, int row);
+
+    /**
+     * Returns the {@code Seat} at the given slot, or {@code null} if the slot is empty.
+     *
+     * @param slot the slot of the Seat
+     * @return     the Seat at the given slot
+     */
+    Seat getSeat(int slot);
+
+    /**
+     * "Places" a {@code Seat} at the given slot in the {@code Bracket}. The slot is no longer a
+     * {@code Remnant} afterwards.
+     *
+     * @param slot the slot in which to place the Seat
+     * @param seat the Seat to be placed in the Bracket
+     */
+    void setSeat(int slot, Seat seat);
+
+    /**
+     * Returns whether or not the given slot is a {@code Remnant}: a slot its {@code Player} has
+     * advanced from. The {@code Player} is still held in the slot so its name can be shown.
+     *
+     * @param slot the slot of a Seat
+     * @return     true if the slot is a Remnant, false otherwise
+     */
+    boolean isRemnant(int slot);
+
+    /**
+     * Marks or unmarks the given slot as a {@code Remnant}.
+     *
+     * @param slot      the slot of a Seat
+     * @param isRemnant true to mark the slot as a Remnant, false to unmark it
+     */
+    void setRemnant(int slot, boolean isRemnant);
+
+    /**
+     * Returns whether or not the given slot holds a {@code Bye}.
+     *
+     * @param slot the slot of a Seat
+     * @return     true if the slot holds a Bye, false otherwise
+     */
+    boolean isBye(int slot);
+
+    /**
+     * Returns the packed ID of the given slot. The ID holds the type of its {@code Seat}
+     * ({@code Player}, {@code Remnant}, or {@code Bye}), the tier of the {@code Bracket}, and the
+     * column and row of the slot.
+     *
+     * @param slot the slot of a Seat
+     * @return     the packed ID of the slot
+     * @see com.joebeaulieu.rapidbrackets.seats.SeatID SeatID
+     */
+    int getSeatID(int slot);
+
+    /**
+     * Returns the first slot, at or after the given slot, which has changed since the
+     * {@code Bracket} was last saved, or -1 if there is none. A slot changes when its {@code Seat}
+     * is replaced or it becomes, or stops being, a {@code Remnant}.
+     *
+     * @param slot the slot to start searching from
+     * @return     the next changed slot, or -1 if no changed slot remains
+     */
+    int nextDirtySlot(int slot);
+
+    /**
+     * Marks every slot as saved, so no slot is reported as changed until it changes again.
+     */
+    void clearDirty();
+
+    /**
+     * Marks the given slot as changed, such as when a save of it has failed.
+     *
+     * @param slot the slot to mark
+     */
+    void markDirty(int slot);
+
+    /**
+     * Returns the slot the winner of the match at the given slot advances to.
+     *
+     * @param slot the slot of a Seat
+     * @return     the slot of its parent
+     */
+    int getParentSlot(int slot);
+
+    /**
+     * Returns the slot of the opponent for the {@code Seat} at the given slot.
+     *
+     * @param slot the slot of a Seat
+     * @return     the slot of its opponent
+     */
+    int getOpponentSlot(int slot);
+
+    /**
+     * Returns the slot of the top {@code Seat} in the match that feeds the given slot. The bottom
+     * {@code Seat} of that match is its opponent.
+     *
+     * @param slot the slot of a Seat
+     * @return     the slot of its top child
+     */
+    int getChildSlot(int slot);
+
+    /**
+     * Returns the column in which the given slot is displayed.
+     *
+     * @param slot the slot of a Seat
+     * @return     the column of the slot
+     */
+    int getColumn(int slot);
+
+    /**
+     * Returns the row, within its column, in which the given slot is displayed.
+     *
+     * @param slot the slot of a Seat
+     * @return     the row of the slot
+     */
+    int getRow(int slot);
+
+    /**
+     * Returns the date when the {@code Bracket} was created; of the form: MM/DD/YYYY.
+     *
+     * @return a String representation of the date when the Bracket was created; of the form: MM/DD/YYYY
+     */
+    String getDateCreated();
+
+    /**
+     * Returns the elimination type of the {@code Bracket}. Can either be {@code Bracket.SINGLE_ELIM}
+     * or {@code Bracket.DOUBLE_ELIM} for single and double elimination, respectively.
+     *
+     * @return the elimination type of the Bracket
+     * @see #SINGLE_ELIM SINGLE_ELIM
+     * @see #DOUBLE_ELIM DOUBLE_ELIM
+     */
+    int getElimType();
+
+    /**
+     * Returns the number of unique {@code Player}s in the {@code Bracket}. This number does not
+     * include {@code Bye}s.
+     *
+     * @return the number of unique Players in the Bracket, not including Byes
+     */
+    int getNumPlayers();
+
+    /**
+     * "Places" a {@code Seat} at the given column and row in the {@code Bracket}.
+     *
+     * @param i    the target column to place the Seat
+     * @param j    the index within the target column to place the Seat
+     * @param seat the Seat to be placed in the Bracket
+     */
+    void set(int i, int j, Seat seat);
+
+    /**
+     * Returns the number of columns in the {@code Bracket}, which is representative of the number
+     * of levels in the {@code Bracket} tree.
+     *
+     * @return the number of columns in the Bracket
+     */
+    int size();
+}
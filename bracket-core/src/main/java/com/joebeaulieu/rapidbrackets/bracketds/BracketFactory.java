@@ -0,0 +1,84 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+/**
+ * This class creates {@code Bracket}s. It is an implementation of the factory class design pattern,
+ * which is used to simplify {@code Bracket} creation.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see Bracket Bracket
+ * @since 1.0.0
+ */
+public class BracketFactory {
+
+    /**
+     * Creates a new {@code Bracket} with information parsed from an instance of the {@code NewBracket}
+     * {@code AppCompatActivity}.
+     *
+     * @param type    the elimination type for the Bracket. Can be either Bracket.SINGLE_ELIM
+     *                or Bracket.DOUBLE_ELIM
+     * @param name    a String representation of the name of the Bracket
+     * @param players a String[] containing the names of each Player in the Bracket, excluding Byes
+     * @param seeds   an Integer[] containing the seeds of each Player in the Bracket (excluding
+     *                Byes). The index of each seed is the index of its corresponding Player in
+     *                the players array. The seeds array may contain null values. null values
+     *                represent a Player that doesn't have a seed
+     * @return        returns a Bracket, which is upcasted from a BracketSE, or null if an invalid
+     *                type has been passed as a parameter
+     * @see Bracket#SINGLE_ELIM Bracket.SINGLE_ELIM
+     * @see Bracket#DOUBLE_ELIM Bracket.DOUBLE_ELIM
+     */
+    public static Bracket getBracket(int type, String name, String[] players, Integer[] seeds) {
+        switch (type) {
+            case Bracket.SINGLE_ELIM: return new BracketSE(name, players, seeds, new PlanterSE());
+            //case Bracket.DOUBLE_ELIM: return new BracketDE(players, seeds, new PlanterDE());
+            default: return null;
+        }
+    }
+
+    /**
+     * Recreates a {@code Bracket} from the {@code SQLiteDatabase}.
+     *
+     * @param type          the elimination type for the Bracket. Can be either Bracket.SINGLE_ELIM
+     *                      or Bracket.DOUBLE_ELIM
+     * @param name          a String representation of the name of the Bracket
+     * @param dateCreated   a String representation of the date the Bracket was created of the
+     *                      form: MM/DD/YYYY
+     * @param seatNameState a String[] which represents the currently saved state of the Bracket.
+     *                      It contains a Seat name for each slot that is occupied in the Bracket.
+     *                      This array does not contain information on the empty places in the Bracket
+     * @param seatIdState   an int[] which represents the packed IDs of each Seat in the Bracket.
+     *                      Each ID holds the Seat's type, its tier, and the column and row of its
+     *                      position, as encoded by SeatID. The index of each ID is the index of its
+     *                      corresponding Seat in the seatNameState array
+     * @return              returns a Bracket, which is upcasted from a BracketSE, or null if an
+     *                      invalid type has been passed as a parameter
+     * @see Bracket#SINGLE_ELIM          Bracket.SINGLE_ELIM
+     * @see Bracket#DOUBLE_ELIM          Bracket.DOUBLE_ELIM
+     * @see Bracket#WINNERS_BRACKET      Bracket.WINNERS_BRACKET
+     * @see Bracket#LOSERS_BRACKET       Bracket.LOSERS_BRACKET
+     * @see Bracket#FINALISTS_SUBBRACKET Bracket.FINALISTS_SUBBRACKET
+     */
+    public static Bracket getBracket(int type, String name, String dateCreated, String[] seatNameState, int[] seatIdState) {
+        switch (type) {
+            case Bracket.SINGLE_ELIM: return new BracketSE(name, dateCreated, seatNameState, seatIdState, new PlanterSE());
+            //case Bracket.DOUBLE_ELIM: return new BracketDE(name, dateCreated, seatNameState, seatIdState, new PlanterDE());
+            default: return null;
+        }
+    }
+
+    /**
+     * Recreates a {@code Bracket} from a {@code BracketSnapshot}. The snapshot's arrays are handed
+     * to the {@code Bracket} as is.
+     *
+     * @param snapshot the saved state of the Bracket
+     * @return         returns a Bracket, which is upcasted from a BracketSE, or null if the
+     *                 snapshot holds an invalid type
+     * @see Bracket#SINGLE_ELIM Bracket.SINGLE_ELIM
+     * @see Bracket#DOUBLE_ELIM Bracket.DOUBLE_ELIM
+     */
+    public static Bracket getBracket(BracketSnapshot snapshot) {
+        return getBracket(snapshot.getElimType(), snapshot.getName(), snapshot.getDateCreated(),
+                snapshot.getSeatNames(), snapshot.getSeatIds());
+    }
+}
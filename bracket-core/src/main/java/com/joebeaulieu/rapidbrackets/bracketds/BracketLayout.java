@@ -0,0 +1,389 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+/**
+ * The on-screen geometry of a {@code Bracket}: the rectangle of every node and the lines of every
+ * connector, computed once for a number of leaves and a node size, and held in flat primitive
+ * arrays. A {@code BracketLayout} is immutable and holds no {@code Bracket}, so one can be shared
+ * by drawing, exporting, and hit-testing a {@code Bracket}, and by every {@code Bracket} of the
+ * same size.
+ * <p>
+ * Everything is indexed by heap slot, as in {@code BracketSE}: slot 1 is the final node, and the
+ * nodes of column {@code c} are the contiguous slots {@code [leaves >> c, 2 * (leaves >> c))}. A
+ * connector is indexed by the slot of the node its match feeds, so the connectors between two
+ * columns are contiguous too, and any run of rows can be drawn from the arrays in one call.
+ * <p>
+ * The layout is measured in units of half a node's height. In the first column each match's pair
+ * of nodes sits together in a block of six units, with one unit above and below. In every later
+ * column each node is centered in a cell twice the height of the cells in the column before, so
+ * that it sits level with the middle of the match which feeds it. Since every node lies within its
+ * cell, the nodes in any area, and the node at any point, are found by division alone.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketSE BracketSE
+ * @since 1.0.1
+ */
+public final class BracketLayout {
+    /**
+     * The number of floats which describe a node's rectangle: its left, top, right, and bottom.
+     */
+    public static final int RECT_FLOATS = 4;
+
+    /**
+     * The number of floats which describe a node drawn as a plain line through its middle.
+     */
+    public static final int LINE_FLOATS = 4;
+
+    /**
+     * The number of floats which describe one match's connector: a polyline from each of the
+     * match's nodes to the node it feeds, as four line segments of two points each.
+     */
+    public static final int CONNECTOR_FLOATS = 16;
+
+    /**
+     * The number of leaves; the number of nodes in the first column.
+     */
+    private final int leaves;
+
+    /**
+     * The number of columns.
+     */
+    private final int columns;
+
+    /**
+     * The width of a node.
+     */
+    private final float nodeWidth;
+
+    /**
+     * The height of a node.
+     */
+    private final float nodeHeight;
+
+    /**
+     * The width of the space between two columns, which the connectors cross.
+     */
+    private final float connectorWidth;
+
+    /**
+     * Half the height of a node; the unit the layout is measured in.
+     */
+    private final float unit;
+
+    /**
+     * The rectangle of each node, {@code RECT_FLOATS} per slot.
+     */
+    private final float[] nodeRects;
+
+    /**
+     * Each node as a plain line through its middle, {@code LINE_FLOATS} per slot.
+     */
+    private final float[] nodeLines;
+
+    /**
+     * The line segments of every connector, {@code CONNECTOR_FLOATS} per slot of the node each
+     * connector feeds.
+     */
+    private final float[] connectorLines;
+
+    /**
+     * Lays out a {@code Bracket} with the given number of leaves, computing the position of every
+     * node and connector. Takes time and memory linear in the number of leaves.
+     *
+     * @param leaves         the number of leaves; a power of 2
+     * @param nodeWidth      the width of a node
+     * @param nodeHeight     the height of a node
+     * @param connectorWidth the width of the space between two columns
+     * @param pipeOffset     how far right of a node the vertical line of its connector runs
+     * @throws IllegalArgumentException thrown if the number of leaves is not a positive power of 2
+     */
+    public BracketLayout(int leaves, float nodeWidth, float nodeHeight, float connectorWidth, float pipeOffset) {
+        if (leaves <= 0 || Integer.bitCount(leaves) != 1) {
+            throw new IllegalArgumentException("The number of leaves must be a power of 2. Found: " + leaves);
+        }
+        this.leaves = leaves;
+        this.nodeWidth = nodeWidth;
+        this.nodeHeight = nodeHeight;
+        this.connectorWidth = connectorWidth;
+        columns = Integer.numberOfTrailingZeros(leaves) + 1;
+        unit = nodeHeight / 2f;
+
+        nodeRects = new float[RECT_FLOATS * 2 * leaves];
+        nodeLines = new float[LINE_FLOATS * 2 * leaves];
+        for (int column = 0; column < columns; column++) {
+            float left = getColumnLeft(column);
+            float right = left + nodeWidth;
+            int first = leaves >> column;
+            for (int row = 0; row < first; row++) {
+                float top = top(column, row);
+                int i = RECT_FLOATS * (first + row);
+                nodeRects[i] = left;
+                nodeRects[i + 1] = top;
+                nodeRects[i + 2] = right;
+                nodeRects[i + 3] = top + nodeHeight;
+                line(nodeLines, LINE_FLOATS * (first + row), left, top + unit, right, top + unit);
+            }
+        }
+
+        // each match's connector runs from the right of its two
+        // nodes to the left of the node its winner advances to
+        connectorLines = new float[CONNECTOR_FLOATS * leaves];
+        for (int parent = 1; parent < leaves; parent++) {
+            int top = RECT_FLOATS * 2 * parent;
+            float right = nodeRects[top + 2];
+            float pipe = right + pipeOffset;
+            float topY = nodeRects[top + 1] + unit;
+            float bottomY = nodeRects[top + RECT_FLOATS + 1] + unit;
+            float parentY = nodeRects[RECT_FLOATS * parent + 1] + unit;
+            int i = CONNECTOR_FLOATS * parent;
+            i = line(connectorLines, i, right, topY, pipe, topY);
+            i = line(connectorLines, i, pipe, topY, pipe, bottomY);
+            i = line(connectorLines, i, right, bottomY, pipe, bottomY);
+            line(connectorLines, i, pipe, parentY, nodeRects[RECT_FLOATS * parent], parentY);
+        }
+    }
+
+    /**
+     * Returns the number of leaves; the number of nodes in the first column.
+     *
+     * @return the number of leaves
+     */
+    public int getLeaves() {
+        return leaves;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of nodes in the given column.
+     *
+     * @param column the column
+     * @return       the number of nodes in the column
+     */
+    public int getColumnSize(int column) {
+        return leaves >> column;
+    }
+
+    /**
+     * Returns the slot of the node at the given column and row.
+     *
+     * @param column the column of the node
+     * @param row    the row of the node within its column
+     * @return       the slot of the node
+     */
+    public int getSlot(int column, int row) {
+        return (leaves >> column) + row;
+    }
+
+    /**
+     * Returns the width of a node.
+     *
+     * @return the width of a node
+     */
+    public float getNodeWidth() {
+        return nodeWidth;
+    }
+
+    /**
+     * Returns the height of a node.
+     *
+     * @return the height of a node
+     */
+    public float getNodeHeight() {
+        return nodeHeight;
+    }
+
+    /**
+     * Returns the width of the whole {@code Bracket}.
+     *
+     * @return the width of the Bracket
+     */
+    public float getWidth() {
+        return columns * nodeWidth + (columns - 1) * connectorWidth;
+    }
+
+    /**
+     * Returns the height of the whole {@code Bracket}.
+     *
+     * @return the height of the Bracket
+     */
+    public float getHeight() {
+        return Math.max(getCellHeight(0) * leaves, nodeHeight);
+    }
+
+    /**
+     * Returns the distance between the left edges of two adjacent columns: the width of a node
+     * and of the space after it.
+     *
+     * @return the distance between two columns
+     */
+    public float getColumnPitch() {
+        return nodeWidth + connectorWidth;
+    }
+
+    /**
+     * Returns the left edge of the nodes of the given column.
+     *
+     * @param column the column
+     * @return       the left edge of the column
+     */
+    public float getColumnLeft(int column) {
+        return column * getColumnPitch();
+    }
+
+    /**
+     * Returns the height of the cells of the given column. Each node lies within the cell of its
+     * row.
+     *
+     * @param column the column
+     * @return       the height of the column's cells
+     */
+    public float getCellHeight(int column) {
+        return (3 << column) * unit;
+    }
+
+    /**
+     * Returns the left edge of the node at the given slot.
+     *
+     * @param slot the slot of the node
+     * @return     the left edge of the node
+     */
+    public float getNodeLeft(int slot) {
+        return nodeRects[RECT_FLOATS * slot];
+    }
+
+    /**
+     * Returns the top edge of the node at the given slot.
+     *
+     * @param slot the slot of the node
+     * @return     the top edge of the node
+     */
+    public float getNodeTop(int slot) {
+        return nodeRects[RECT_FLOATS * slot + 1];
+    }
+
+    /**
+     * Returns the rectangle of every node, {@code RECT_FLOATS} per slot: left, top, right, and
+     * bottom. The array is shared and must not be modified.
+     *
+     * @return the rectangle of every node
+     */
+    public float[] getNodeRects() {
+        return nodeRects;
+    }
+
+    /**
+     * Returns every node as a plain line through its middle, {@code LINE_FLOATS} per slot, as
+     * pairs of points ready to be drawn as line segments. The array is shared and must not be
+     * modified.
+     *
+     * @return every node as a line
+     */
+    public float[] getNodeLines() {
+        return nodeLines;
+    }
+
+    /**
+     * Returns the line segments of every connector, {@code CONNECTOR_FLOATS} per slot of the node
+     * each connector feeds, as pairs of points. Slot 0 feeds no node, so its segments are empty.
+     * The array is shared and must not be modified.
+     *
+     * @return the line segments of every connector
+     */
+    public float[] getConnectorLines() {
+        return connectorLines;
+    }
+
+    /**
+     * Returns the first row of the given column whose cell reaches below the given y coordinate.
+     * Along with {@code getLastRow(int, float)}, finds the nodes which may lie in an area.
+     *
+     * @param column the column
+     * @param top    the top of the area
+     * @return       the first row at or below the top of the area
+     * @see #getLastRow(int, float) getLastRow(int, float)
+     */
+    public int getFirstRow(int column, float top) {
+        return Math.max(0, (int) Math.floor(top / getCellHeight(column)));
+    }
+
+    /**
+     * Returns the last row of the given column whose cell reaches above the given y coordinate.
+     * The result is less than the first row if no row of the column lies in the area.
+     *
+     * @param column the column
+     * @param bottom the bottom of the area
+     * @return       the last row at or above the bottom of the area
+     * @see #getFirstRow(int, float) getFirstRow(int, float)
+     */
+    public int getLastRow(int column, float bottom) {
+        return Math.min(getColumnSize(column) - 1, (int) Math.floor(bottom / getCellHeight(column)));
+    }
+
+    /**
+     * Returns the slot of the node at the given point, in O(1). The column is found from the
+     * point's x coordinate, and the row from its y coordinate by the same arithmetic that placed
+     * the nodes.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return  the slot of the node, or 0 if there is no node at the point
+     */
+    public int slotAt(float x, float y) {
+        if (x < 0 || y < 0) {
+            return 0;
+        }
+        float pitch = getColumnPitch();
+        int column = (int) (x / pitch);
+        if (column >= columns || x - column * pitch >= nodeWidth) {
+            return 0;
+        }
+        int row = (int) (y / getCellHeight(column));
+        if (row >= getColumnSize(column)) {
+            return 0;
+        }
+        int slot = getSlot(column, row);
+        float top = getNodeTop(slot);
+        return y >= top && y < top + nodeHeight ? slot : 0;
+    }
+
+    /**
+     * Returns the top edge of the node at the given column and row.
+     *
+     * @param column the column of the node
+     * @param row    the row of the node
+     * @return       the top edge of the node
+     */
+    private float top(int column, int row) {
+        if (column == 0) {
+            return ((row >> 1) * 6 + 1 + (row & 1) * 2) * unit;
+        }
+        return row * getCellHeight(column) + getCellHeight(column) / 2 - unit;
+    }
+
+    /**
+     * Writes one line segment into an array of line segments.
+     *
+     * @param lines the array of line segments
+     * @param i     the index to write the segment at
+     * @param x0    the x coordinate of the start of the segment
+     * @param y0    the y coordinate of the start of the segment
+     * @param x1    the x coordinate of the end of the segment
+     * @param y1    the y coordinate of the end of the segment
+     * @return      the index after the segment
+     */
+    private static int line(float[] lines, int i, float x0, float y0, float x1, float y1) {
+        lines[i] = x0;
+        lines[i + 1] = y0;
+        lines[i + 2] = x1;
+        lines[i + 3] = y1;
+        return i + 4;
+    }
+}
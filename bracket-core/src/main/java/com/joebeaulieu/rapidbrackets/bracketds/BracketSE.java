@@ -0,0 +1,679 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Random;
+
+import com.joebeaulieu.rapidbrackets.seats.Bye;
+import com.joebeaulieu.rapidbrackets.seats.Player;
+import com.joebeaulieu.rapidbrackets.seats.Seat;
+import com.joebeaulieu.rapidbrackets.seats.SeatID;
+
+/**
+ * This class creates and stores a single instance of a single elimination {@code Bracket}s. It is
+ * stored internally as an implicit binary heap in a single {@code Seat[]}: slot 1 holds the champion,
+ * the children of slot {@code i} are slots {@code 2i} and {@code 2i + 1}, and the leaves occupy the
+ * second half of the array. Column/row access is translated to a slot with index math, so no
+ * separate grid is kept. A {@code Player} stays in every slot it advances from, and those slots are
+ * flagged as {@code Remnant}s in a {@code BitSet}, so advancing never allocates a new {@code Seat}.
+ * Arranging the starting lineup is not done here, but rather in the class's {@code PlanterSE}
+ * {@code Object}.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see PlanterSE                                PlanterSE
+ * @see com.joebeaulieu.rapidbrackets.seats.Seat Seat
+ * @since 1.0.0
+ */
+public class BracketSE implements Bracket{
+    /**
+     * The largest number of leaves a {@code BracketSE} can hold, including {@code Bye}s. This keeps
+     * every row within the range of a {@code SeatID}.
+     *
+     * @see com.joebeaulieu.rapidbrackets.seats.SeatID SeatID
+     */
+    public static final int MAX_LEAVES = 1 << 20;
+
+    /**
+     * A String representation of the name of the {@code Bracket}.
+     */
+    private String name;
+
+    /**
+     * A String representation of the date the {@code Bracket} was created; of the form: MM/DD/YYYY.
+     */
+    private String dateCreated;
+
+    /**
+     * The elimination type of the {@code Bracket}. Since {@code BracketSE} is a single elimination
+     * {@code Bracket}, this value will always be {@code Bracket.SINGLE_ELIM}.
+     *
+     * @see Bracket#SINGLE_ELIM Bracket.SINGLE_ELIM
+     */
+    private int elimType;
+
+    /**
+     * The number of {@code Player}s in the {@code Bracket}, not including {@code Bye}s.
+     */
+    private int numPlayers;
+
+    /**
+     * The {@code Bracket} as an implicit binary heap. Slot 0 is unused, slot 1 is the root, the
+     * parent of slot {@code i} is {@code i / 2}, and its children are {@code 2i} and {@code 2i + 1}.
+     * The leaves (the first column) occupy slots {@code [leaves, 2 * leaves)}.
+     */
+    private Seat[] heap;
+
+    /**
+     * The slots of the heap which are {@code Remnant}s: slots whose {@code Player} has advanced to
+     * the next column. The {@code Player} is still held in the slot so its name can be shown.
+     */
+    private BitSet remnants;
+
+    /**
+     * The slots of the heap which have changed since the {@code Bracket} was last saved. A
+     * {@code Bracket} which has never been saved, or whose saved state is unknown, has every slot
+     * marked.
+     */
+    private BitSet dirty;
+
+    /**
+     * The number of leaves in the {@code Bracket} tree, including {@code Bye}s. Always a power of 2.
+     * The first slot of column {@code i} is {@code leaves >> i}.
+     */
+    private int leaves;
+
+    /**
+     * The number of columns in the {@code Bracket}.
+     */
+    private int columns;
+
+    /**
+     * The {@code PlanterSE} which creates the starting lineup for the {@code Bracket}.
+     */
+    private PlanterSE planter;
+
+    /**
+     * Gives random seeds to non-seeded {@code Player}s; seeds created here are always greater than
+     * the largest user defined seed, but smaller than seeds automatically assigned to {@code Bye}s.
+     */
+    private Random rand;
+
+    /**
+     * The minimum value of the range from which this class's {@code Random} number generator
+     * randomly creates seeds for non-seeded {@code Player}s.
+     */
+    private int randRangeMin;
+
+    /**
+     * The tier of a sub-{@code Bracket} in the overarching structure of the {@code Bracket}. This
+     * value is packed into the ID of each slot in the {@code Bracket}. It is used for {@code Bracket}
+     * partitioning (double elimination) and {@code Bracket} recreation. Since {@code BracketSE} is
+     * a single elimination {@code Bracket}, this value is constant throughout the entire
+     * {@code Bracket}. Its value will always be {@code Bracket.WINNERS_BRACKET}.
+     *
+     * @see Bracket#WINNERS_BRACKET Bracket.WINNERS_BRACKET
+     */
+    private int tier;
+
+    /**
+     * The constructor that is used for the initial creation of a {@code Bracket}. Class variables
+     * representing {@code Bracket} metadata are initialized here.
+     *
+     * @param name    a String representation of the name of the Bracket
+     * @param players a String[] containing all Player names; does not include Byes
+     * @param seeds   an Integer[] containing seeds for every player, should they have a seed. The
+     *                index of the seed corresponds to the index of the representative Player in the
+     *                players array. Players with no seed will have a corresponding null value in
+     *                this array
+     * @param planter the PlanterSE Object for the given instance of this class. The PlanterSE
+     *                is responsible for determining the starting lineup based on seeds, and
+     *                planting the Players in the Bracket accordingly
+     * @throws IllegalArgumentException thrown if there are more than MAX_LEAVES players, or if a
+     *         seed is Seat.BYE_SEED - 1 or greater, which would leave no room for the random seeds
+     *         of non-seeded Players
+     */
+    public BracketSE(String name, String[] players, Integer[] seeds, PlanterSE planter) {
+        int maxSeed = maxSeed(seeds);
+        if (maxSeed >= Seat.BYE_SEED - 1) {
+            throw new IllegalArgumentException("Seeds must be less than " + (Seat.BYE_SEED - 1) + ". Found: " + maxSeed);
+        }
+        rand = new Random();
+        randRangeMin = maxSeed + 1;
+        this.name = name;
+        numPlayers = players.length;
+        elimType = Bracket.SINGLE_ELIM;
+        tier = Bracket.WINNERS_BRACKET;
+        Calendar calendar = Calendar.getInstance();
+        // 1 must be added to the MONTH as Calendar.MONTH is zero-based
+        dateCreated = (calendar.get(Calendar.MONTH) + 1) + "/" +
+                calendar.get(Calendar.DATE) + "/" +
+                calendar.get(Calendar.YEAR);
+        this.planter = planter;
+        makeBracket(players, seeds);
+    }
+
+    /**
+     * The constructor that is used for {@code Bracket} recreation. The {@code Bracket} will either
+     * be recreated when the {@code PlayBracket} {@code AppCompatActivity} is destroyed and recreated,
+     * or when it is rebuild from the {@code SQLiteDatabase} via the {@code LoadBracket}
+     * {@code AppCompatActivity}.
+     *
+     * @param name          the name of the Bracket
+     * @param dateCreated   the date the Bracket was originally created
+     * @param seatNameState a String[] which represents the currently saved state of the Bracket in
+     *                      terms of Seats. This array does not contain information on the empty
+     *                      places in the Bracket
+     * @param seatIdState   an int[] which represents the packed IDs of each Seat in the Bracket.
+     *                      Each ID holds the Seat's type, its tier, and the column and row of its
+     *                      position, as encoded by SeatID. The index of each ID is the index of its
+     *                      corresponding Seat in the seatNameState array
+     * @param planter       the PlanterSE Object for the given instance of this class. The PlanterSE
+     *                      is responsible for determining the starting lineup based on seeds, and
+     *                      planting the Players in the Bracket accordingly
+     * @see Bracket#WINNERS_BRACKET Bracket.WINNERS_BRACKET
+     */
+    public BracketSE(String name, String dateCreated, String[] seatNameState, int[] seatIdState, PlanterSE planter) {
+        this.name = name;
+        this.dateCreated = dateCreated;
+        elimType = Bracket.SINGLE_ELIM;
+        tier = Bracket.WINNERS_BRACKET;
+        this.planter = planter;
+        rand = null;
+        randRangeMin = -1;
+        reconstructBracket(seatNameState, seatIdState);
+    }
+
+    /**
+     * This method ultimately creates the {@code Bracket}, utilizing {@code numByes(String[])} to
+     * help determine the amount of leaves for the {@code Bracket} tree, this {@code Object} instance's
+     * {@code PlanterSE}'s {@code plant(Seat[], Seat[], int)} method to plant the {@code Player}s
+     * into the leaf slots of the heap. Every {@code Bye} slot is filled with the shared {@code Bye}.
+     * <p>
+     * Non-seeded {@code Player}s are given a random seed between the largest user defined seed and
+     * {@code Seat.BYE_SEED}, so they always sort after seeded {@code Player}s and before {@code Bye}s.
+     *
+     * @param players a String[] containing all of the Player names for the Bracket. Does not
+     *                include Byes
+     * @param seeds   an Integer[] containing seeds for every player, should they have a seed.
+     *                The index of the seed corresponds to the index of the representative Player
+     *                in the players array. Players with no seed will have a corresponding null
+     *                value in this array
+     * @see #numByes(String[])                   numByes(String[])
+     * @see PlanterSE#plant(Seat[], Seat[], int) PlanterSE.plant(Seat[], Seat[], int)
+     */
+    private void makeBracket(String[] players, Integer[] seeds) {
+        leaves = numByes(players) + players.length;
+        if (leaves > MAX_LEAVES) {
+            throw new IllegalArgumentException(players.length + " players exceeds the maximum of " + MAX_LEAVES);
+        }
+        Seat[] allLeaves = new Seat[leaves];
+        // slot 0 is unused, so the heap holds one more slot than there are nodes
+        heap = new Seat[2 * leaves];
+        remnants = new BitSet(heap.length);
+        dirty = new BitSet(heap.length);
+        dirty.set(1, heap.length);
+        columns = log2(heap.length - 1) + 1;
+
+        // create Seats and place them in the allLeaves array
+        for (int i = 0; i < allLeaves.length; i++) {
+            if (i < players.length) {
+                if (seeds[i] == null){
+                    allLeaves[i] = new Player(players[i], rand.nextInt(Seat.BYE_SEED - randRangeMin) + randRangeMin);
+                } else {
+                    allLeaves[i] = new Player(players[i], seeds[i]);
+                }
+            } else {
+                allLeaves[i] = Bye.getInstance();
+            }
+        }
+        // sort all the Seats and plant them in the leaf slots of the heap;
+        // every slot before the first leaf (including slot 0) is empty
+        planter.plant(heap, allLeaves, leaves);
+    }
+
+    /**
+     * This method ultimately recreates the {@code Bracket}, sizing the heap from the number of
+     * leaves found in the saved state and utilizing {@code reconstructGrid(String[], int[])}
+     * to place every {@code Seat} back into its slot.
+     *
+     * @param seatNameState a String[] which represents the currently saved state of the Bracket in
+     *                      terms of Seat names. This array does not contain information on the empty
+     *                      places in the Bracket
+     * @param seatIdState   an int[] which represents the packed IDs of each Seat in the Bracket.
+     *                      Each ID holds the Seat's type, its tier, and the column and row of its
+     *                      position, as encoded by SeatID. The index of each ID is the index of its
+     *                      corresponding Seat in the seatNameState array
+     * @see #reconstructGrid(String[], int[]) reconstructGrid(String[], int[])
+     * @see Bracket#WINNERS_BRACKET           Bracket.WINNERS_BRACKET
+     */
+    private void reconstructBracket(String[] seatNameState, int[] seatIdState) {
+        int byes = 0;
+        leaves = 0;
+
+        // determine the amount of leaves in the playerState array
+        // leaves are the Seats in the first column
+        for (int id : seatIdState) {
+            if (SeatID.getColumn(id) == 0) {
+                leaves++;
+                if (SeatID.getType(id) == SeatID.BYE) {
+                    byes++;
+                }
+            }
+        }
+        numPlayers = leaves - byes;
+        heap = new Seat[2 * leaves];
+        remnants = new BitSet(heap.length);
+        dirty = new BitSet(heap.length);
+        columns = log2(heap.length - 1) + 1;
+        reconstructGrid(seatNameState, seatIdState);
+    }
+
+    /**
+     * Calculates and returns the number of {@code Bye}s to be used in the {@code Bracket} as an
+     * {@code int}.
+     *
+     * @param players a String[] containing the names of all the players
+     * @return        the number of Byes to be used in the Bracket as an int
+     */
+    private int numByes(String[] players) {
+        int size = players.length;
+        if (isPower2(players)) {
+            return 0;
+        } else if (size == 1) {
+            return 1;
+        } else {
+            // the total leaves are the next power of 2 above the amount of players
+            int num = Integer.highestOneBit(size) << 1;
+            // subtracts players from total leaves, the remainder is amount of Byes
+            return (num - size);
+        }
+    }
+
+    /**
+     * Returns the largest user defined seed, or 0 if no {@code Player} has a seed.
+     *
+     * @param seeds an Integer[] containing seeds for every player, should they have a seed
+     * @return      the largest seed in the array
+     */
+    private int maxSeed(Integer[] seeds) {
+        int max = 0;
+        for (Integer seed : seeds) {
+            if (seed != null && seed > max) {
+                max = seed;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Takes the current state of the {@code Bracket} and recreates it. The {@code Bracket}'s state
+     * is comprised of {@code Seat}s from all levels of the {@code Bracket}, along with their
+     * corresponding IDs. Each ID's column and row are translated into a slot of the heap, from which
+     * the columns that represent each "level" of the {@code Bracket} are later displayed on-screen
+     * via the {@code CMDBuildBracketUI} class. {@code Remnant} slots are flagged, and share the
+     * {@code Player} in the slot above them when it has the same name.
+     * <p>
+     * Visually, it looks like:
+     * <pre>
+     *      [-, null, null, null, P1, P2, P3, P4] is read as [[P1, P2, P3, P4], [null, null], [null]]
+     * </pre>
+     * This appears on-screen like this ({@code null} values are shown as empty text):
+     * <pre>
+     *      P1
+     *         > null
+     *      P2
+     *                > null
+     *      P3
+     *         > null
+     *      P4
+     * </pre>
+     *
+     * @param seatNameState a String[] which represents the currently saved state of the Bracket in
+     *                      terms of Seat names. This array does not contain information on the empty
+     *                      places in the Bracket
+     * @param seatIdState   an int[] which represents the packed IDs of each Seat in the Bracket.
+     *                      Each ID holds the Seat's type, its tier, and the column and row of its
+     *                      position, as encoded by SeatID. The index of each ID is the index of its
+     *                      corresponding Seat in the seatNameState array
+     * @see Bracket#WINNERS_BRACKET Bracket.WINNERS_BRACKET
+     */
+    @Override
+    public void reconstructGrid(String[] seatNameState, int[] seatIdState) {
+        Arrays.fill(heap, null);
+        remnants.clear();
+        // the state may not be the one last saved, so every slot is written on the next save
+        dirty.set(1, heap.length);
+        for (int i = 0; i < seatNameState.length; i++) {
+            int id = seatIdState[i];
+            int slot = getSlot(SeatID.getColumn(id), SeatID.getRow(id));
+            switch (SeatID.getType(id)) {
+                // seeds are irrelevant at this point as they are only
+                // used for the initial sorting of Seats in the Bracket
+                case SeatID.PLAYER: heap[slot] = new Player(seatNameState[i], 0); break;
+                case SeatID.REMNANT: heap[slot] = new Player(seatNameState[i], 0); remnants.set(slot); break;
+                case SeatID.BYE: heap[slot] = Bye.getInstance();
+            }
+        }
+        // a parent's slot always comes before its children's, so walking
+        // forwards lets each Remnant share the Player that advanced from it
+        for (int slot = remnants.nextSetBit(0); slot >= 0; slot = remnants.nextSetBit(slot + 1)) {
+            Seat parent = heap[getParentSlot(slot)];
+            if (parent != null && parent.getName().equals(heap[slot].getName())) {
+                heap[slot] = parent;
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the {@code Bracket}.
+     *
+     * @return the name of the Bracket
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns an entire column of the {@code Bracket} in the form of a {@code Seat[]}. The column is
+     * copied out of the heap, so callers that only need its length should use
+     * {@code columnSize(int)} instead.
+     *
+     * @param i the index of the column to be returned
+     * @return  a copy of the desired column as a Seat[]
+     * @see #columnSize(int) columnSize(int)
+     */
+    @Override
+    public Seat[] get(int i) {
+        int start = leaves >> i;
+        return Arrays.copyOfRange(heap, start, start * 2);
+    }
+
+    /**
+     * Returns an individual {@code Seat} from the {@code Bracket}.
+     *
+     * @param i the index of the row in which the desired Seat is located
+     * @param j the index of the Seat to be returned
+     * @return  the desired Seat
+     */
+    @Override
+    public Seat get(int i, int j) {
+        return heap[(leaves >> i) + j];
+    }
+
+    /**
+     * Returns the number of {@code Seat}s the given column of the {@code Bracket} can hold.
+     *
+     * @param i the index of the column
+     * @return  the number of Seats in the column
+     */
+    @Override
+    public int columnSize(int i) {
+        return leaves >> i;
+    }
+
+    /**
+     * Returns the heap slot of the {@code Seat} at the given column and row.
+     *
+     * @param column the column of the Seat
+     * @param row    the row of the Seat within its column
+     * @return       the heap slot of the Seat
+     */
+    @Override
+    public int getSlot(int column, int row) {
+        return (leaves >> column) + row;
+    }
+
+    /**
+     * Returns the {@code Seat} at the given heap slot, or {@code null} if the slot is empty.
+     *
+     * @param slot the heap slot of the Seat
+     * @return     the Seat at the given slot
+     */
+    @Override
+    public Seat getSeat(int slot) {
+        return heap[slot];
+    }
+
+    /**
+     * "Places" a {@code Seat} at the given heap slot. The slot is no longer a {@code Remnant}
+     * afterwards.
+     *
+     * @param slot the heap slot in which to place the Seat
+     * @param seat the Seat to be placed in the Bracket
+     */
+    @Override
+    public void setSeat(int slot, Seat seat) {
+        heap[slot] = seat;
+        remnants.clear(slot);
+        dirty.set(slot);
+    }
+
+    /**
+     * Returns whether or not the given heap slot is a {@code Remnant}.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     true if the slot is a Remnant, false otherwise
+     */
+    @Override
+    public boolean isRemnant(int slot) {
+        return remnants.get(slot);
+    }
+
+    /**
+     * Marks or unmarks the given heap slot as a {@code Remnant}.
+     *
+     * @param slot      the heap slot of a Seat
+     * @param isRemnant true to mark the slot as a Remnant, false to unmark it
+     */
+    @Override
+    public void setRemnant(int slot, boolean isRemnant) {
+        remnants.set(slot, isRemnant);
+        dirty.set(slot);
+    }
+
+    /**
+     * Returns whether or not the given heap slot holds the shared {@code Bye}.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     true if the slot holds a Bye, false otherwise
+     */
+    @Override
+    public boolean isBye(int slot) {
+        return heap[slot] == Bye.getInstance();
+    }
+
+    /**
+     * Returns the packed ID of the given heap slot, holding the type of its {@code Seat}, this
+     * {@code Bracket}'s tier, and the slot's column and row.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     the packed ID of the slot
+     * @see com.joebeaulieu.rapidbrackets.seats.SeatID SeatID
+     */
+    @Override
+    public int getSeatID(int slot) {
+        int type = SeatID.PLAYER;
+        if (isBye(slot)) {
+            type = SeatID.BYE;
+        } else if (isRemnant(slot)) {
+            type = SeatID.REMNANT;
+        }
+        return SeatID.pack(type, tier, getColumn(slot), getRow(slot));
+    }
+
+    /**
+     * Returns the first slot, at or after the given slot, which has changed since the
+     * {@code Bracket} was last saved, or -1 if there is none.
+     *
+     * @param slot the heap slot to start searching from
+     * @return     the next changed slot, or -1 if no changed slot remains
+     */
+    @Override
+    public int nextDirtySlot(int slot) {
+        return dirty.nextSetBit(slot);
+    }
+
+    /**
+     * Marks every slot as saved.
+     */
+    @Override
+    public void clearDirty() {
+        dirty.clear();
+    }
+
+    /**
+     * Marks the given heap slot as changed.
+     *
+     * @param slot the heap slot to mark
+     */
+    @Override
+    public void markDirty(int slot) {
+        dirty.set(slot);
+    }
+
+    /**
+     * Returns the slot the winner of the match at the given slot advances to.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     the slot of its parent
+     */
+    @Override
+    public int getParentSlot(int slot) {
+        return slot >> 1;
+    }
+
+    /**
+     * Returns the slot of the opponent for the {@code Seat} at the given slot.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     the slot of its opponent
+     */
+    @Override
+    public int getOpponentSlot(int slot) {
+        return slot ^ 1;
+    }
+
+    /**
+     * Returns the slot of the top {@code Seat} in the match that feeds the given slot. The bottom
+     * {@code Seat} of that match is its opponent.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     the slot of its top child
+     */
+    @Override
+    public int getChildSlot(int slot) {
+        return slot << 1;
+    }
+
+    /**
+     * Returns the column in which the given heap slot is displayed.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     the column of the slot
+     */
+    @Override
+    public int getColumn(int slot) {
+        return Integer.numberOfLeadingZeros(slot) - Integer.numberOfLeadingZeros(leaves);
+    }
+
+    /**
+     * Returns the row, within its column, in which the given heap slot is displayed.
+     *
+     * @param slot the heap slot of a Seat
+     * @return     the row of the slot
+     */
+    @Override
+    public int getRow(int slot) {
+        return slot - Integer.highestOneBit(slot);
+    }
+
+    /**
+     * Returns the date when the {@code Bracket} was created; of the form: MM/DD/YYYY.
+     *
+     * @return a String representation of the date when the Bracket was created; of the form: MM/DD/YYYY
+     */
+    @Override
+    public String getDateCreated() {
+        return dateCreated;
+    }
+
+    /**
+     * Returns the elimination type of the {@code Bracket}. Since {@code BracketSE} is a single
+     * elimination {@code Bracket}, this value will always be {@code Bracket.SINGLE_ELIM}.
+     *
+     * @return the elimination type of the Bracket
+     * @see Bracket#SINGLE_ELIM Bracket.SINGLE_ELIM
+     */
+    @Override
+    public int getElimType() {
+        return elimType;
+    }
+
+    /**
+     * Returns the number of unique {@code Player}s in the {@code Bracket}. This number does not
+     * include {@code Bye}s.
+     *
+     * @return the number of unique Players in the Bracket, not including Byes
+     */
+    @Override
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    /**
+     * "Places" a {@code Seat} at the given column and row in the {@code Bracket}.
+     *
+     * @param i    the target column to place the Seat
+     * @param j    the index within the target column to place the Seat
+     * @param seat the Seat to be placed in the Bracket
+     */
+    @Override
+    public void set(int i, int j, Seat seat) {
+        setSeat((leaves >> i) + j, seat);
+    }
+
+    /**
+     * Returns the number of columns in the {@code Bracket}, which is representative of the number
+     * of levels in the {@code Bracket}'s heap.
+     *
+     * @return the number of columns in the Bracket
+     */
+    @Override
+    public int size() {
+        return columns;
+    }
+
+    /**
+     * Determines whether or not the amount of players is a power of two. This is necessary in
+     * determining the number of Byes for the {@code Bracket} as every {@code Bracket} must have an
+     * amount of Seats that is a power of two, as a {@code Bracket} is a full Binary Tree by nature.
+     * <p>
+     * Note: although 1 is a power of 2, this method does not treat it as such because a tournament
+     * of 1 person will still need 1 {@code Bye}.
+     *
+     * @param players a String[] containing the name of all Players in the Bracket, not including
+     *                Byes
+     * @return        a boolean value representing whether or not the number of Players is a power
+     *                of two. true = yes, false = no
+     */
+    private boolean isPower2(String[] players) {
+        int x = players.length;
+        // a power of 2 has exactly one bit set
+        return x > 1 && (x & (x - 1)) == 0;
+    }
+
+    /**
+     * Calculates and returns log base 2 of the given {@code int}, rounded down. This is exact integer
+     * math (the index of the highest set bit), so sizes at or near a power of 2 are never
+     * mis-computed by floating point error.
+     *
+     * @param leaves the number of leaves in the Bracket Seat[]; must be positive
+     * @return       log base 2 of the given int, rounded down
+     */
+    private int log2(int leaves) {
+        return 31 - Integer.numberOfLeadingZeros(leaves);
+    }
+}
\ No newline at end of file
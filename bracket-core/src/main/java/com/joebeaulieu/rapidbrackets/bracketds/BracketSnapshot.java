@@ -0,0 +1,157 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.Seat;
+
+import java.io.Serializable;
+
+/**
+ * The saved state of a {@code Bracket} in columnar form: its metadata, and one entry per occupied
+ * slot held in parallel arrays rather than one {@code Object} per {@code Seat}. A snapshot is
+ * filled in a single pass over its source and handed to the {@code BracketFactory} as is; the
+ * arrays are never copied.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketFactory#getBracket(BracketSnapshot) BracketFactory.getBracket(BracketSnapshot)
+ * @since 1.0.1
+ */
+public final class BracketSnapshot implements Serializable {
+    /**
+     * The version of the serialized form of this class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The name of the {@code Bracket}.
+     */
+    private final String name;
+
+    /**
+     * The elimination type of the {@code Bracket}.
+     */
+    private final int elimType;
+
+    /**
+     * A String representation of the date the {@code Bracket} was created.
+     */
+    private final String dateCreated;
+
+    /**
+     * The name of the {@code Seat} in each occupied slot.
+     */
+    private final String[] seatNames;
+
+    /**
+     * The packed ID of each occupied slot, parallel to {@code seatNames}.
+     */
+    private final int[] seatIds;
+
+    /**
+     * The sole constructor for the {@code BracketSnapshot} class. The arrays are held, not copied.
+     *
+     * @param name        a String representation of the name of the Bracket
+     * @param elimType    the elimination type for the Bracket. Can be either Bracket.SINGLE_ELIM
+     *                    or Bracket.DOUBLE_ELIM
+     * @param dateCreated a String representation of the date the Bracket was created
+     * @param seatNames   the name of the Seat in each occupied slot
+     * @param seatIds     the packed ID of each occupied slot. The index of each ID is the index of
+     *                    its corresponding Seat in the seatNames array
+     * @see com.joebeaulieu.rapidbrackets.seats.SeatID SeatID
+     */
+    public BracketSnapshot(String name, int elimType, String dateCreated, String[] seatNames, int[] seatIds) {
+        if (seatNames.length != seatIds.length) {
+            throw new IllegalArgumentException(seatNames.length + " names for " + seatIds.length + " IDs");
+        }
+        this.name = name;
+        this.elimType = elimType;
+        this.dateCreated = dateCreated;
+        this.seatNames = seatNames;
+        this.seatIds = seatIds;
+    }
+
+    /**
+     * Takes a snapshot of the given {@code Bracket}. Occupied slots are taken column by column and
+     * row by row, so they are ordered by position.
+     *
+     * @param bracket the Bracket to take a snapshot of
+     * @return        the current state of the Bracket
+     * @see com.joebeaulieu.rapidbrackets.seats.SeatID#getPosition(int) SeatID.getPosition(int)
+     */
+    public static BracketSnapshot of(Bracket bracket) {
+        int occupied = 0;
+        for (int slot = 1; slot < 2 * bracket.columnSize(0); slot++) {
+            if (bracket.getSeat(slot) != null) {
+                occupied++;
+            }
+        }
+        String[] seatNames = new String[occupied];
+        int[] seatIds = new int[occupied];
+        int i = 0;
+        for (int column = 0; column < bracket.size(); column++) {
+            for (int row = 0; row < bracket.columnSize(column); row++) {
+                int slot = bracket.getSlot(column, row);
+                Seat seat = bracket.getSeat(slot);
+                if (seat != null) {
+                    seatNames[i] = seat.getName();
+                    seatIds[i] = bracket.getSeatID(slot);
+                    i++;
+                }
+            }
+        }
+        return new BracketSnapshot(bracket.getName(), bracket.getElimType(), bracket.getDateCreated(), seatNames, seatIds);
+    }
+
+    /**
+     * Returns the name of the {@code Bracket}.
+     *
+     * @return a String representation of the name of the Bracket
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the elimination type of the {@code Bracket}.
+     *
+     * @return either Bracket.SINGLE_ELIM or Bracket.DOUBLE_ELIM
+     */
+    public int getElimType() {
+        return elimType;
+    }
+
+    /**
+     * Returns the date the {@code Bracket} was created.
+     *
+     * @return a String representation of the date the Bracket was created
+     */
+    public String getDateCreated() {
+        return dateCreated;
+    }
+
+    /**
+     * Returns the name of the {@code Seat} in each occupied slot. The array is not copied.
+     *
+     * @return the Seat names, parallel to getSeatIds()
+     */
+    public String[] getSeatNames() {
+        return seatNames;
+    }
+
+    /**
+     * Returns the packed ID of each occupied slot. The array is not copied.
+     *
+     * @return the packed IDs, parallel to getSeatNames()
+     */
+    public int[] getSeatIds() {
+        return seatIds;
+    }
+
+    /**
+     * Returns the number of occupied slots held by this snapshot.
+     *
+     * @return the number of occupied slots
+     */
+    public int size() {
+        return seatIds.length;
+    }
+}
@@ -0,0 +1,185 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.SeatID;
+
+/**
+ * Reads a {@code BracketSnapshot} from the compact binary snapshot format written by
+ * {@code BracketSnapshotWriter}, in a single pass over the bytes.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketSnapshotWriter BracketSnapshotWriter
+ * @since 1.0.1
+ */
+public final class BracketSnapshotReader {
+    /**
+     * The bytes being read.
+     */
+    private final byte[] bytes;
+
+    /**
+     * The index of the next byte to read.
+     */
+    private int offset;
+
+    /**
+     * Creates a reader over the given bytes. Readers are only created by {@code read(byte[])}.
+     *
+     * @param bytes the bytes to read
+     */
+    private BracketSnapshotReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Reads a {@code BracketSnapshot} from the given bytes. Everything read is checked, so that
+     * a damaged snapshot is rejected here rather than failing later, or being partly lost, while
+     * the {@code Bracket} is recreated from it.
+     *
+     * @param bytes a snapshot written by BracketSnapshotWriter
+     * @return      the saved state of the Bracket
+     * @throws IllegalArgumentException thrown if the bytes are not a snapshot, are a snapshot of
+     *         an unknown version, are cut short or run on past its end, or hold an unknown
+     *         elimination type, an unknown Seat type, or a position which is not a slot of a
+     *         Bracket or does not follow the one before it
+     * @see BracketSnapshotWriter#write(BracketSnapshot) BracketSnapshotWriter.write(BracketSnapshot)
+     */
+    public static BracketSnapshot read(byte[] bytes) {
+        BracketSnapshotReader in = new BracketSnapshotReader(bytes);
+        for (byte b : BracketSnapshotWriter.MAGIC) {
+            if (in.readByte() != b) {
+                throw new IllegalArgumentException("Not a bracket snapshot");
+            }
+        }
+        int version = in.readByte();
+        if (version != BracketSnapshotWriter.FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unknown snapshot version " + version);
+        }
+        int elimType = in.readInt();
+        if (elimType != Bracket.SINGLE_ELIM && elimType != Bracket.DOUBLE_ELIM) {
+            throw new IllegalArgumentException("Unknown elimination type " + elimType);
+        }
+        String name = in.readString();
+        String dateCreated = in.readString();
+
+        String[] names = new String[in.readCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = in.readString();
+        }
+
+        int seats = in.readCount();
+        String[] seatNames = new String[seats];
+        int[] seatIds = new int[seats];
+        long position = 0;
+        for (int i = 0; i < seats; i++) {
+            int nameIndex = in.readInt();
+            if (nameIndex >= names.length) {
+                throw new IllegalArgumentException("Name " + nameIndex + " is not in the table");
+            }
+            long entry = in.readVarint();
+            int type = (int) (entry & 3);
+            if (type != SeatID.PLAYER && type != SeatID.REMNANT && type != SeatID.BYE) {
+                throw new IllegalArgumentException("Unknown Seat type " + type + " at byte " + in.offset);
+            }
+            long zigzag = entry >>> 2;
+            long next = position + ((zigzag >>> 1) ^ -(zigzag & 1));
+            if (!isSlot(next) || (i > 0 && next <= position)) {
+                throw new IllegalArgumentException("Position " + next + " out of place at byte " + in.offset);
+            }
+            position = next;
+            seatNames[i] = names[nameIndex];
+            seatIds[i] = SeatID.withType((int) position, type);
+        }
+        if (in.offset != bytes.length) {
+            throw new IllegalArgumentException("Snapshot runs on past its end at byte " + in.offset);
+        }
+        return new BracketSnapshot(name, elimType, dateCreated, seatNames, seatIds);
+    }
+
+    /**
+     * Returns whether or not the given position, as held by a {@code SeatID} without its type,
+     * is that of a slot in a {@code Bracket} of up to {@code BracketSE.MAX_LEAVES} leaves: the
+     * packed counterpart of a heap slot in {@code [0, 2 * MAX_LEAVES)}.
+     *
+     * @param position the decoded position
+     * @return         true if the position is that of a slot, false otherwise
+     * @see BracketSE#MAX_LEAVES BracketSE.MAX_LEAVES
+     */
+    private static boolean isSlot(long position) {
+        if (position < 0 || position > Integer.MAX_VALUE || SeatID.getPosition((int) position) != position) {
+            return false;
+        }
+        int column = SeatID.getColumn((int) position);
+        return column <= Integer.numberOfTrailingZeros(BracketSE.MAX_LEAVES)
+                && SeatID.getRow((int) position) < BracketSE.MAX_LEAVES >> column;
+    }
+
+    /**
+     * Reads one byte.
+     *
+     * @return the byte, as an unsigned value
+     */
+    private int readByte() {
+        if (offset >= bytes.length) {
+            throw new IllegalArgumentException("Snapshot ends early at byte " + offset);
+        }
+        return bytes[offset++] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     *
+     * @return the number read
+     */
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long at byte " + offset);
+    }
+
+    /**
+     * Reads a varint which must fit in an {@code int}.
+     *
+     * @return the number read
+     */
+    private int readInt() {
+        long value = readVarint();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Number " + value + " out of range at byte " + offset);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a varint which counts the entries, or bytes, that follow it. Every entry takes at
+     * least one byte, so a count larger than the bytes left means the snapshot is damaged; it is
+     * rejected before anything is allocated for it.
+     *
+     * @return the number read
+     */
+    private int readCount() {
+        long value = readVarint();
+        if (value < 0 || value > bytes.length - offset) {
+            throw new IllegalArgumentException("Count " + value + " exceeds the snapshot at byte " + offset);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a string written as its UTF-8 byte length followed by its bytes.
+     *
+     * @return the string read
+     */
+    private String readString() {
+        int length = readCount();
+        String value = new String(bytes, offset, length, BracketSnapshotWriter.UTF_8);
+        offset += length;
+        return value;
+    }
+}
@@ -0,0 +1,133 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.SeatID;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+
+/**
+ * Writes a {@code BracketSnapshot} in the compact binary snapshot format, which is read back by
+ * {@code BracketSnapshotReader}. The format is laid out as follows, where every number is an
+ * unsigned LEB128 varint and every string is its UTF-8 byte length followed by its bytes:
+ *
+ * <pre>
+ * magic        4 bytes, "RBSN"
+ * version      1 byte, FORMAT_VERSION
+ * elimType     number
+ * name         string
+ * dateCreated  string
+ * names        number of unique Seat names, then each name once
+ * seats        number of occupied slots, then for each slot:
+ *                  the index of its Seat's name in the names table
+ *                  (zigzag(position - previous position) &lt;&lt; 2) | type
+ * </pre>
+ *
+ * Positions are those of {@code SeatID.getPosition(int)}. Slots are written in the order they are
+ * held by the snapshot, which must be in increasing order of position, as
+ * {@code BracketSnapshot.of(Bracket)} and the {@code SQLiteDatabase} hold them; each step down a
+ * column is then written as a single byte. {@code BracketSnapshotReader} rejects any other order.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketSnapshotReader BracketSnapshotReader
+ * @since 1.0.1
+ */
+public final class BracketSnapshotWriter {
+    /**
+     * The bytes every snapshot begins with.
+     */
+    static final byte[] MAGIC = {'R', 'B', 'S', 'N'};
+
+    /**
+     * The version of the format written by this class.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * The character set every string is written in.
+     */
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * {@code BracketSnapshotWriter} only contains static methods and is never instantiated.
+     */
+    private BracketSnapshotWriter() {
+    }
+
+    /**
+     * Writes the given {@code BracketSnapshot} in the binary snapshot format.
+     *
+     * @param snapshot the saved state of a Bracket
+     * @return         the snapshot as bytes
+     */
+    public static byte[] write(BracketSnapshot snapshot) {
+        String[] seatNames = snapshot.getSeatNames();
+        int[] seatIds = snapshot.getSeatIds();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + 4 * seatIds.length);
+
+        out.write(MAGIC, 0, MAGIC.length);
+        out.write(FORMAT_VERSION);
+        writeVarint(out, snapshot.getElimType());
+        writeString(out, snapshot.getName());
+        writeString(out, snapshot.getDateCreated());
+
+        // the string table; each name is written once however many slots it fills
+        HashMap<String, Integer> table = new HashMap<>();
+        int[] nameIndexes = new int[seatNames.length];
+        for (int i = 0; i < seatNames.length; i++) {
+            Integer index = table.get(seatNames[i]);
+            if (index == null) {
+                index = table.size();
+                table.put(seatNames[i], index);
+            }
+            nameIndexes[i] = index;
+        }
+        String[] names = new String[table.size()];
+        for (HashMap.Entry<String, Integer> entry : table.entrySet()) {
+            names[entry.getValue()] = entry.getKey();
+        }
+        writeVarint(out, names.length);
+        for (String name : names) {
+            writeString(out, name);
+        }
+
+        writeVarint(out, seatIds.length);
+        long previous = 0;
+        for (int i = 0; i < seatIds.length; i++) {
+            long position = SeatID.getPosition(seatIds[i]);
+            long delta = position - previous;
+            writeVarint(out, nameIndexes[i]);
+            writeVarint(out, ((delta << 1) ^ (delta >> 63)) << 2 | SeatID.getType(seatIds[i]));
+            previous = position;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes an unsigned number as a LEB128 varint: seven bits per byte, lowest bits first, with
+     * the high bit of each byte set when another byte follows.
+     *
+     * @param out   the stream to write to
+     * @param value the number to write; never negative
+     */
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Writes a string as its UTF-8 byte length followed by its bytes.
+     *
+     * @param out   the stream to write to
+     * @param value the string to write
+     */
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+}
@@ -7,11 +7,13 @@ import com.joebeaulieu.rapidbrackets.seats.Seat;
  * the starting {@code Seat} lineup for the {@code Bracket}. This class sorts and plants all the
  * {@code Seat}s ({@code Player}s and {@code Bye}s; {@code Remnant}s do not yet exist) into the
  * beginning of the {@code Bracket} in their proper positions. As of now, {@code PlanterSE} is the
- * only implemented subclass.
+ * only implemented subclass. Implementations can share seed order tables through the
+ * {@code SeedOrderCache}.
  *
  * @author Joe Beaulieu
  * @version 1.0.1
  * @see com.joebeaulieu.rapidbrackets.seats.Seat Seat
+ * @see SeedOrderCache                           SeedOrderCache
  * @since 1.0.0
  */
 public interface Planter {
@@ -0,0 +1,102 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.Seat;
+
+import java.util.Arrays;
+
+/**
+ * The {@code Planter} is used to create the starting {@code Seat} lineup for the {@code Bracket}.
+ * This class sorts and plants all the {@code Seat}s ({@code Player}s and {@code Bye}s; {@code Remnant}s
+ * do not yet exist) into the beginning of the {@code Bracket} in their proper positions.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see com.joebeaulieu.rapidbrackets.seats.Seat Seat
+ * @since 1.0.0
+ */
+public class PlanterSE implements Planter {
+    /**
+     * The number of bits of a seed sorted in each pass of {@code sortBySeed(Seat[])}.
+     */
+    private static final int RADIX_BITS = 8;
+
+    /**
+     * The number of buckets used in each pass of {@code sortBySeed(Seat[])}.
+     */
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    /**
+     * The sole, and default constructor for the {@code PlanerSE} class.
+     */
+    public PlanterSE() {
+    }
+
+    /**
+     * Plants the {@code Seat}s in the {@code Bracket} in their proper positions. Utilizes
+     * {@code sortBySeed(Seat[])} to sort the {@code Seat}s by their seeds, and the shared
+     * {@code SeedOrder} table from the {@code SeedOrderCache} to find which {@code Seat} belongs in
+     * each leaf slot.
+     *
+     * @param bracket   the Bracket as a Seat[]
+     * @param allLeaves a Seat[] containing all of the leaves of the Bracket tree
+     * @param empties   the number of empty nodes in the Bracket tree
+     * @see #sortBySeed(Seat[])       sortBySeed(Seat[])
+     * @see SeedOrderCache#get(int) SeedOrderCache.get(int)
+     */
+    @Override
+    public void plant(Seat[] bracket, Seat[] allLeaves, int empties) {
+        SeedOrder order = SeedOrderCache.get(allLeaves.length);
+        sortBySeed(allLeaves);
+
+        // starts at the first non-empty spot in the tree
+        for (int i = 0; i < allLeaves.length; i++) {
+            bracket[empties + i] = allLeaves[order.get(i)];
+        }
+    }
+
+    /**
+     * Sorts the {@code Seat}s in ascending order by seed. This is a least significant digit radix
+     * sort: a stable counting sort is run on each byte of the seeds, so it is O(n) for any seed
+     * value, and {@code Seat}s with equal seeds keep their original order. Passes in which every
+     * seed shares the same byte (such as the high bytes of small seeds) are skipped.
+     *
+     * @param seats a Seat[] containing all the Seats in the Bracket
+     */
+    private void sortBySeed(Seat[] seats) {
+        int n = seats.length;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            // flipping the sign bit lets negative seeds sort before positive ones
+            keys[i] = seats[i].getSeed() ^ Integer.MIN_VALUE;
+        }
+
+        Seat[] seatBuffer = new Seat[n];
+        int[] keyBuffer = new int[n];
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int key : keys) {
+                counts[(key >>> shift) & (RADIX - 1)]++;
+            }
+            if (counts[(keys[0] >>> shift) & (RADIX - 1)] == n) {
+                continue;
+            }
+            // turns the counts into the starting index of each bucket
+            int total = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int count = counts[b];
+                counts[b] = total;
+                total += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int index = counts[(keys[i] >>> shift) & (RADIX - 1)]++;
+                seatBuffer[index] = seats[i];
+                keyBuffer[index] = keys[i];
+            }
+            System.arraycopy(seatBuffer, 0, seats, 0, n);
+            int[] temp = keys;
+            keys = keyBuffer;
+            keyBuffer = temp;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+/**
+ * An immutable table holding the seeded order of the starting lineup for a {@code Bracket} with a
+ * given number of leaves. {@code Seat}s are ordered such that {@code Player}s of similar skill are
+ * spaced as far as possible from each other. This balances the {@code Bracket} in a way such that
+ * the two best {@code Player}s will not be able to meet until the end of the tournament, and so
+ * forth, tunneling down for {@code Player}s with a greater seed. The lesser the seed, the better
+ * the {@code Player}.
+ * <p>
+ * Example table for 4 leaves, as seeds:
+ * <pre>
+ *      [1, 4, 2, 3]
+ * </pre>
+ * This appears on-screen like:
+ * <pre>
+ *      1
+ *        > 1
+ *      4
+ *            > 1
+ *      2
+ *        > 2
+ *      3
+ * </pre>
+ * Tables are shared between {@code Bracket}s through the {@code SeedOrderCache}, so a
+ * {@code SeedOrder} never exposes its underlying array.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see SeedOrderCache SeedOrderCache
+ * @since 1.0.1
+ */
+public final class SeedOrder {
+    /**
+     * The index, in seed order, of the {@code Seat} which belongs in each position of the starting
+     * lineup.
+     */
+    private final int[] order;
+
+    /**
+     * Creates the seed order table for a {@code Bracket} with the given number of leaves.
+     *
+     * @param leaves the number of leaves in the Bracket; must be a power of 2
+     */
+    SeedOrder(int leaves) {
+        int rounds = Integer.numberOfTrailingZeros(leaves);
+        order = new int[leaves];
+        for (int i = 0; i < leaves; i++) {
+            order[i] = seedIndex(i, rounds);
+        }
+    }
+
+    /**
+     * Returns the index, in seed order, of the {@code Seat} which belongs in the given position of
+     * the starting lineup. An index of 0 is the best seed.
+     *
+     * @param position the position of a leaf in the starting lineup of the Bracket
+     * @return         the index, in seed order, of the Seat which belongs in the given position
+     */
+    public int get(int position) {
+        return order[position];
+    }
+
+    /**
+     * Returns the number of leaves this table was created for.
+     *
+     * @return the number of leaves in the table
+     */
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * Computes a single entry of a seed order table without building the table. Each round of the
+     * standard order doubles the lineup, keeping every seed {@code s} in place and pairing it with
+     * {@code 2^round + 1 - s}. Read one bit of the position at a time from the most significant end,
+     * that is a reflection of the seed for every bit that is set, which is the inverse Gray code of
+     * the position's bits reversed.
+     *
+     * @param position the position of a leaf in the starting lineup of the Bracket
+     * @param rounds   the number of rounds in the Bracket; log base 2 of the number of leaves
+     * @return         the index, in seed order, of the Seat which belongs in the given position
+     */
+    public static int seedIndex(int position, int rounds) {
+        if (rounds == 0) {
+            return 0;
+        }
+        int index = Integer.reverse(position) >>> (Integer.SIZE - rounds);
+        index ^= index >>> 1;
+        index ^= index >>> 2;
+        index ^= index >>> 4;
+        index ^= index >>> 8;
+        index ^= index >>> 16;
+        return index;
+    }
+}
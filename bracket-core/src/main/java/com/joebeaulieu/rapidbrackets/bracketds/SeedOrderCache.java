@@ -0,0 +1,90 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A process-wide cache of {@code SeedOrder} tables, keyed by the number of leaves in the
+ * {@code Bracket}. Any {@code Planter} can use it, so creating many {@code Bracket}s of the same
+ * size (ex. every division of an event at check-in) only computes each table once.
+ * <p>
+ * Since the number of leaves is always a power of 2, there is one entry per number of rounds. Only
+ * tables of up to {@code MAX_CACHED_LEAVES} leaves are kept, which bounds the cache to a fixed
+ * number of entries and memory. Larger tables are created on each request and left to the garbage
+ * collector.
+ * <p>
+ * The cache is thread-safe. Two threads asking for the same missing table at once may both create
+ * it, but the tables are identical and immutable, so only one is kept and either can be used.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see SeedOrder SeedOrder
+ * @see Planter   Planter
+ * @since 1.0.1
+ */
+public final class SeedOrderCache {
+    /**
+     * The largest table, in leaves, that is kept in the cache.
+     */
+    public static final int MAX_CACHED_LEAVES = 1 << 16;
+
+    /**
+     * The largest table, in leaves, that is created by {@code precompute()}.
+     */
+    public static final int MAX_PRECOMPUTED_LEAVES = 1 << 12;
+
+    /**
+     * The cached tables, indexed by the number of rounds; log base 2 of the number of leaves.
+     */
+    private static final AtomicReferenceArray<SeedOrder> tables =
+            new AtomicReferenceArray<>(Integer.numberOfTrailingZeros(MAX_CACHED_LEAVES) + 1);
+
+    /**
+     * {@code SeedOrderCache} only contains static methods and is never instantiated.
+     */
+    private SeedOrderCache() {
+    }
+
+    /**
+     * Returns the {@code SeedOrder} table for a {@code Bracket} with the given number of leaves,
+     * creating and caching it if it has not been yet.
+     *
+     * @param leaves the number of leaves in the Bracket; must be a power of 2
+     * @return       the seed order table for the given number of leaves
+     * @throws IllegalArgumentException thrown if the number of leaves is not a power of 2
+     */
+    public static SeedOrder get(int leaves) {
+        if (leaves < 1 || (leaves & (leaves - 1)) != 0) {
+            throw new IllegalArgumentException(leaves + " is not a power of 2");
+        }
+        if (leaves > MAX_CACHED_LEAVES) {
+            return new SeedOrder(leaves);
+        }
+        int rounds = Integer.numberOfTrailingZeros(leaves);
+        SeedOrder table = tables.get(rounds);
+        if (table == null) {
+            tables.compareAndSet(rounds, null, new SeedOrder(leaves));
+            table = tables.get(rounds);
+        }
+        return table;
+    }
+
+    /**
+     * Creates and caches every table from 2 up to {@code MAX_PRECOMPUTED_LEAVES} leaves, so the
+     * first {@code Bracket}s created do not pay for it. This is optional, and is meant to be called
+     * once at startup.
+     */
+    public static void precompute() {
+        for (int leaves = 2; leaves <= MAX_PRECOMPUTED_LEAVES; leaves <<= 1) {
+            get(leaves);
+        }
+    }
+
+    /**
+     * Removes every table from the cache.
+     */
+    public static void clear() {
+        for (int i = 0; i < tables.length(); i++) {
+            tables.set(i, null);
+        }
+    }
+}
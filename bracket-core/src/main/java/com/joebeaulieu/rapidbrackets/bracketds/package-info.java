@@ -2,6 +2,9 @@
  * Contains all the classes used to create and manipulate the {@code Bracket} data structure, as well
  * as the data structure itself. Utilizes the factory class design pattern to simplify {@code Bracket}
  * creation.
+ * <p>
+ * This package, along with the {@code seats} package, makes up the {@code bracket-core} module. It
+ * is plain Java with no Android dependencies, so the same engine can run and be tested on any JVM.
  *
  * @author Joe Beaulieu
  * @version 1.0.1
@@ -0,0 +1,65 @@
+package com.joebeaulieu.rapidbrackets.seats;
+
+/**
+ * A {@code Bye} to be utilized as a {@code Seat} in a {@code Bracket}. It's utility stems from the
+ * fact that the number of "players," or in this case, {@code Seat}s, in a {@code Bracket} must always
+ * be a power of 2. This is because a {@code Bracket} is a full Binary Tree. When the number of
+ * {@code Player}s isn't a power of 2, the space must be filled in with a {@code Bye}. The {@code Bye}
+ * ends up being a free win for the {@code Player}. Because of this, {@code Bye}s are allocated to
+ * {@code Player}s in ascending order (best {@code Player} first) based on their seeds.
+ * <p>
+ * Every {@code Bye} is identical, so a single shared instance (a flyweight) fills every {@code Bye}
+ * slot of every {@code Bracket}. Its position is held by the {@code Bracket}'s storage, not by the
+ * {@code Bye} itself.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see Player Player
+ * @since 1.0.0
+ */
+public final class Bye implements Seat {
+    /**
+     * The name shown for every {@code Bye}.
+     */
+    public static final String NAME = "BYE";
+
+    /**
+     * The single shared {@code Bye}.
+     */
+    private static final Bye INSTANCE = new Bye();
+
+    /**
+     * {@code Bye} is never instantiated outside of this class; use {@code getInstance()}.
+     */
+    private Bye() {
+    }
+
+    /**
+     * Returns the single shared {@code Bye}.
+     *
+     * @return the Bye
+     */
+    public static Bye getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the name associated with the {@code Bye}.
+     *
+     * @return a String representation of the name associated with the Bye
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Returns the seed associated with the {@code Bye}, which is always {@code Seat.BYE_SEED}.
+     *
+     * @return the seed associated with the Bye
+     */
+    @Override
+    public int getSeed() {
+        return BYE_SEED;
+    }
+}
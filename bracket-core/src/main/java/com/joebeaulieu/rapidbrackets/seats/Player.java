@@ -0,0 +1,60 @@
+package com.joebeaulieu.rapidbrackets.seats;
+
+/**
+ * A {@code Player} to be utilized as a {@code Seat} in the {@code Bracket}. Any currently standing
+ * (not yet eliminated) {@code Seat} will be a {@code Player}. The exception to this would be in
+ * double elimination, where a {@code Player} has been eliminated from the Winners' {@code Bracket}
+ * and moves on to the Losers' {@code Bracket}. That {@code Player} has not yet been eliminated from
+ * the tournament. However, its last spot in the Winners' {@code Bracket} will not be a {@code Player},
+ * it will be a {@code Remnant}. But, its new spot in the Losers' {@code Bracket} will be a {@code Player}.
+ * <p>
+ * A {@code Remnant} is not a separate object: the {@code Player} stays in each slot it passes
+ * through, and the {@code Bracket} flags those slots as {@code Remnant}s.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see com.joebeaulieu.rapidbrackets.bracketds.Bracket#isRemnant(int) Bracket.isRemnant(int)
+ * @since 1.0.0
+ */
+public class Player implements Seat {
+    /**
+     * The name of the {@code Player}.
+     */
+    private String name;
+
+    /**
+     * The seed of the {@code Player}.
+     */
+    private int seed;
+
+    /**
+     * The constructor for creating a brand new {@code Player}.
+     *
+     * @param name a String representation of the name of the Player
+     * @param seed the seed of the Player
+     */
+    public Player(String name, int seed) {
+        this.name = name;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the name associated with the {@code Player}.
+     *
+     * @return a String representation of the name associated with the Player
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the seed associated with the {@code Player}.
+     *
+     * @return the seed associated with the Player
+     */
+    @Override
+    public int getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,34 @@
+package com.joebeaulieu.rapidbrackets.seats;
+
+/**
+ * The interface for the different types of {@code Seat}s which make up the {@code Bracket}.
+ * {@code Seat}s include: {@code Player} and {@code Bye}. A {@code Seat} does not know where it is
+ * in the {@code Bracket}; its position, tier, and whether it is a {@code Remnant} are held by the
+ * {@code Bracket}'s storage, so the same {@code Seat} can fill every slot a {@code Player} passes
+ * through.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public interface Seat {
+    /**
+     * The seed of every {@code Bye}. It is greater than any seed given to a {@code Player}, so
+     * {@code Bye}s are always sorted after every {@code Player}.
+     */
+    int BYE_SEED = Integer.MAX_VALUE;
+
+    /**
+     * Returns the name associated with the {@code Seat}.
+     *
+     * @return a String representation of the name associated with the Seat
+     */
+    String getName();
+
+    /**
+     * Returns the seed associated with the {@code Seat}.
+     *
+     * @return the seed associated with the Seat
+     */
+    int getSeed();
+}
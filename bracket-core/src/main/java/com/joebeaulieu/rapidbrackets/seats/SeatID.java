@@ -0,0 +1,199 @@
+package com.joebeaulieu.rapidbrackets.seats;
+
+/**
+ * Encodes and decodes the packed {@code int} IDs the {@code Bracket} gives each occupied slot. An ID
+ * holds the type of the {@code Seat} in the slot (including whether the slot is a {@code Remnant}),
+ * its tier, and the slot's column and row, so the ID can be read with shifts and masks instead of
+ * being parsed out of a {@code String}.
+ * <p>
+ * The bits are laid out as:
+ * <pre>
+ *      [unused: 2][type: 2][tier: 2][column: 5][row: 21]
+ * </pre>
+ * which allows up to 32 columns and 2,097,152 rows per column. IDs are always non-negative.
+ * <p>
+ * Note: IDs are stored in the {@code SQLiteDatabase}. Changing this layout will require an update
+ * of the database!
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see Seat Seat
+ * @since 1.0.1
+ */
+public final class SeatID {
+    /**
+     * Denotes a {@code Player}.
+     */
+    public static final int PLAYER = 0;
+
+    /**
+     * Denotes a {@code Remnant}: a slot a {@code Player} has advanced from.
+     */
+    public static final int REMNANT = 1;
+
+    /**
+     * Denotes a {@code Bye}.
+     */
+    public static final int BYE = 2;
+
+    /**
+     * The number of bits used by the row.
+     */
+    private static final int ROW_BITS = 21;
+
+    /**
+     * The number of bits used by the column.
+     */
+    private static final int COLUMN_BITS = 5;
+
+    /**
+     * The number of bits used by the tier and by the type.
+     */
+    private static final int TIER_BITS = 2;
+
+    /**
+     * The offset of the column within an ID.
+     */
+    private static final int COLUMN_SHIFT = ROW_BITS;
+
+    /**
+     * The offset of the tier within an ID.
+     */
+    private static final int TIER_SHIFT = COLUMN_SHIFT + COLUMN_BITS;
+
+    /**
+     * The offset of the type within an ID.
+     */
+    private static final int TYPE_SHIFT = TIER_SHIFT + TIER_BITS;
+
+    /**
+     * The mask for the row, before shifting.
+     */
+    private static final int ROW_MASK = (1 << ROW_BITS) - 1;
+
+    /**
+     * The mask for the column, before shifting.
+     */
+    private static final int COLUMN_MASK = (1 << COLUMN_BITS) - 1;
+
+    /**
+     * The mask for the tier and for the type, before shifting.
+     */
+    private static final int TIER_MASK = (1 << TIER_BITS) - 1;
+
+    /**
+     * {@code SeatID} only contains static methods and is never instantiated.
+     */
+    private SeatID() {
+    }
+
+    /**
+     * Packs the given values into a single ID.
+     *
+     * @param type   the Seat type. Either SeatID.PLAYER, SeatID.REMNANT, or SeatID.BYE
+     * @param tier   the tier of the Seat
+     * @param column the column of the Seat's position
+     * @param row    the row of the Seat's position within its column
+     * @return       the packed ID
+     */
+    public static int pack(int type, int tier, int column, int row) {
+        return (type << TYPE_SHIFT) | (tier << TIER_SHIFT) | (column << COLUMN_SHIFT) | row;
+    }
+
+    /**
+     * Returns the {@code Seat} type held by the given ID.
+     *
+     * @param id a packed ID
+     * @return   either SeatID.PLAYER, SeatID.REMNANT, or SeatID.BYE
+     */
+    public static int getType(int id) {
+        return (id >>> TYPE_SHIFT) & TIER_MASK;
+    }
+
+    /**
+     * Returns the tier held by the given ID.
+     *
+     * @param id a packed ID
+     * @return   the tier of the Seat
+     */
+    public static int getTier(int id) {
+        return (id >>> TIER_SHIFT) & TIER_MASK;
+    }
+
+    /**
+     * Returns the column held by the given ID.
+     *
+     * @param id a packed ID
+     * @return   the column of the Seat's position
+     */
+    public static int getColumn(int id) {
+        return (id >>> COLUMN_SHIFT) & COLUMN_MASK;
+    }
+
+    /**
+     * Returns the row held by the given ID.
+     *
+     * @param id a packed ID
+     * @return   the row of the Seat's position within its column
+     */
+    public static int getRow(int id) {
+        return id & ROW_MASK;
+    }
+
+    /**
+     * Returns a copy of the given ID with its type replaced.
+     *
+     * @param id   a packed ID
+     * @param type the new Seat type
+     * @return     the ID with the new type
+     */
+    public static int withType(int id, int type) {
+        return (id & ~(TIER_MASK << TYPE_SHIFT)) | (type << TYPE_SHIFT);
+    }
+
+    /**
+     * Returns a copy of the given ID with its tier replaced.
+     *
+     * @param id   a packed ID
+     * @param tier the new tier
+     * @return     the ID with the new tier
+     */
+    public static int withTier(int id, int tier) {
+        return (id & ~(TIER_MASK << TIER_SHIFT)) | (tier << TIER_SHIFT);
+    }
+
+    /**
+     * Returns the position held by the given ID: its tier, column, and row, without its type. The
+     * position of a slot never changes as {@code Seat}s move through it, so it identifies the slot's
+     * row in the {@code SQLiteDatabase}.
+     *
+     * @param id a packed ID
+     * @return   the ID with its type cleared
+     */
+    public static int getPosition(int id) {
+        return id & ~(TIER_MASK << TYPE_SHIFT);
+    }
+
+    /**
+     * Converts an ID read from the {@code SQLiteDatabase} into a packed ID. {@code Bracket}s saved
+     * before IDs were packed store them as a {@code String} of the form L###, where L is either "p",
+     * "r", or "b" for {@code Player}, {@code Remnant}, or {@code Bye} respectively, and ### are the
+     * column and row numbers, with the first digit being the column and the rest being the row.
+     * Those IDs did not hold the tier, so it is passed in separately. Any other value is read as a
+     * packed ID.
+     *
+     * @param id   the ID as stored in the SQLiteDatabase
+     * @param tier the tier stored alongside the ID
+     * @return     the packed ID
+     */
+    public static int fromString(String id, int tier) {
+        int type;
+        switch (id.charAt(0)) {
+            case 'p': type = PLAYER; break;
+            case 'r': type = REMNANT; break;
+            case 'b': type = BYE; break;
+            default: return Integer.parseInt(id);
+        }
+        return pack(type, tier, id.charAt(1) - '0', Integer.parseInt(id.substring(2)));
+    }
+}
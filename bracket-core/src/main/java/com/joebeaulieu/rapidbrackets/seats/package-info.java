@@ -1,8 +1,7 @@
 /**
- * Contains all the {@code Seat}s used by the {@code Bracket}. Seats can be either {@code Player}s,
- * {@code Remnant}s, or {@code Bye}s. In short, {@code Player}s are simply the "real" players in
- * the {@code Bracket}, {@code Remnant}s are used to show a player's path through the {@code Bracket}
- * (with "greyed-out" player names), and {@code Bye}s are used to enforce the rule that all
+ * Contains all the {@code Seat}s used by the {@code Bracket}. Seats can be either {@code Player}s
+ * or {@code Bye}s. In short, {@code Player}s are simply the "real" players in the {@code Bracket},
+ * and {@code Bye}s are used to enforce the rule that all
  * {@code Bracket}s have seats equal to a power of 2. This is because, by nature, all {@code Bracket}s
  * are full binary trees.
  * <p>
@@ -10,6 +9,11 @@
  * that each "real" player has an opponent. Being placed against a {@code Bye} results in an
  * automatic win for that round. Therefore, {@code Bye}s are distributed to players in order of
  * ranking, with the best players getting {@code Bye}s first.
+ * <p>
+ * {@code Remnant}s, which show a player's path through the {@code Bracket} (with "greyed-out"
+ * player names), are not {@code Seat}s of their own. They are a flag the {@code Bracket} keeps for
+ * each slot a {@code Player} has advanced from. {@code SeatID} packs a slot's type, tier, and
+ * position into an {@code int} for storage.
  *
  * @author Joe Beaulieu
  * @version 1.0.1
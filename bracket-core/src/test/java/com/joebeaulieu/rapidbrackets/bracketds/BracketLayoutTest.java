@@ -0,0 +1,111 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * JVM unit tests for the {@code BracketLayout} class.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketLayout BracketLayout
+ * @since 1.0.1
+ */
+public class BracketLayoutTest {
+    /**
+     * Checks the nodes of a {@code Bracket} of 4 leaves against the layout of the node images:
+     * each first column pair in a block of six units, and each later node level with the middle of
+     * the match which feeds it.
+     */
+    @Test
+    public void placesNodes() {
+        BracketLayout layout = new BracketLayout(4, 100, 20, 20, 5);
+        assertEquals(3, layout.getColumns());
+        float[] expectedTops = {0, 50, 20, 80, 10, 30, 70, 90};
+        for (int slot = 1; slot < 8; slot++) {
+            assertEquals(expectedTops[slot], layout.getNodeTop(slot), 0f);
+        }
+        assertEquals(0f, layout.getNodeLeft(4), 0f);
+        assertEquals(120f, layout.getNodeLeft(2), 0f);
+        assertEquals(240f, layout.getNodeLeft(1), 0f);
+        assertEquals(340f, layout.getWidth(), 0f);
+        assertEquals(120f, layout.getHeight(), 0f);
+    }
+
+    /**
+     * Checks that every connector joins the middles of its match's two nodes to the middle of the
+     * node it feeds.
+     */
+    @Test
+    public void joinsMatchesToTheNodesTheyFeed() {
+        BracketLayout layout = new BracketLayout(8, 100, 20, 20, 5);
+        float[] rects = layout.getNodeRects();
+        float[] lines = layout.getConnectorLines();
+        for (int parent = 1; parent < 8; parent++) {
+            int i = BracketLayout.CONNECTOR_FLOATS * parent;
+            int top = BracketLayout.RECT_FLOATS * 2 * parent;
+            int bottom = top + BracketLayout.RECT_FLOATS;
+            assertEquals(rects[top + 2], lines[i], 0f);
+            assertEquals(rects[top + 1] + 10, lines[i + 1], 0f);
+            assertEquals(rects[bottom + 1] + 10, lines[i + 7], 0f);
+            assertEquals(rects[bottom + 2], lines[i + 8], 0f);
+            assertEquals(layout.getNodeLeft(parent), lines[i + 14], 0f);
+            assertEquals(layout.getNodeTop(parent) + 10, lines[i + 15], 0f);
+        }
+    }
+
+    /**
+     * Checks that every point inside a node maps back to its slot, and points between nodes to 0.
+     */
+    @Test
+    public void hitTestsEveryNode() {
+        BracketLayout layout = new BracketLayout(16, 100, 20, 20, 5);
+        for (int slot = 1; slot < 32; slot++) {
+            float x = layout.getNodeLeft(slot);
+            float y = layout.getNodeTop(slot);
+            assertEquals(slot, layout.slotAt(x, y));
+            assertEquals(slot, layout.slotAt(x + 99, y + 19));
+            assertEquals(0, layout.slotAt(x + 100, y));
+        }
+        assertEquals(0, layout.slotAt(0, 0));
+        assertEquals(0, layout.slotAt(-1, 15));
+    }
+
+    /**
+     * Checks the rows found for an area, including an area which holds no row.
+     */
+    @Test
+    public void findsRowsInAnArea() {
+        BracketLayout layout = new BracketLayout(8, 100, 20, 20, 5);
+        assertEquals(1, layout.getFirstRow(0, 45));
+        assertEquals(3, layout.getLastRow(0, 119));
+        assertEquals(7, layout.getLastRow(0, 10000));
+        assertTrue(layout.getFirstRow(2, 1000) > layout.getLastRow(2, 1000));
+    }
+
+    /**
+     * Checks that a {@code Bracket} of 2^16 leaves is laid out, with every node placed below the
+     * one before it in its column.
+     */
+    @Test
+    public void laysOutLargeBrackets() {
+        BracketLayout layout = new BracketLayout(1 << 16, 100, 20, 20, 5);
+        assertEquals(17, layout.getColumns());
+        for (int column = 0; column < layout.getColumns(); column++) {
+            for (int row = 1; row < layout.getColumnSize(column); row++) {
+                assertTrue(layout.getNodeTop(layout.getSlot(column, row))
+                        >= layout.getNodeTop(layout.getSlot(column, row - 1)) + 20);
+            }
+        }
+    }
+
+    /**
+     * Checks that a number of leaves which is not a power of 2 is refused.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesUnevenLeaves() {
+        new BracketLayout(6, 100, 20, 20, 5);
+    }
+}
@@ -0,0 +1,198 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.Bye;
+import com.joebeaulieu.rapidbrackets.seats.Seat;
+import com.joebeaulieu.rapidbrackets.seats.SeatID;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * JVM unit tests for the {@code BracketSE} class.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketSE BracketSE
+ * @since 1.0.1
+ */
+public class BracketSETest {
+    /**
+     * Checks that the number of columns and leaves are exact for sizes at and around each power
+     * of 2.
+     */
+    @Test
+    public void sizesAroundPowersOfTwo() {
+        for (int power = 2; power <= 12; power++) {
+            int boundary = 1 << power;
+            for (int players = boundary - 1; players <= boundary + 1; players++) {
+                Bracket bracket = newBracket(players);
+                int leaves = Integer.highestOneBit(players - 1) << 1;
+                assertEquals("leaves for " + players, leaves, bracket.columnSize(0));
+                assertEquals("columns for " + players, Integer.numberOfTrailingZeros(leaves) + 1, bracket.size());
+            }
+        }
+    }
+
+    /**
+     * Creates a {@code Bracket} with {@code BracketSE.MAX_LEAVES} entrants and checks its shape.
+     * How long this takes is measured by {@code BracketSEBenchmark} in the {@code bracket-bench}
+     * module, rather than here.
+     */
+    @Test
+    public void createsMaxSize() {
+        Bracket bracket = newBracket(BracketSE.MAX_LEAVES);
+        assertEquals(21, bracket.size());
+        assertEquals(BracketSE.MAX_LEAVES, bracket.columnSize(0));
+    }
+
+    /**
+     * Checks that non-seeded {@code Player}s are still given seeds between the largest seed and
+     * {@code Seat.BYE_SEED} when the largest seed is as large as it can be.
+     */
+    @Test
+    public void seedsNonSeededPlayersAfterTheLargestSeed() {
+        Integer[] seeds = {Seat.BYE_SEED - 2, null, null};
+        Bracket bracket = new BracketSE("Test", names(3), seeds, new PlanterSE());
+        for (int row = 0; row < bracket.columnSize(0); row++) {
+            Seat seat = bracket.get(0, row);
+            if (!(seat instanceof Bye) && !seat.getName().equals("P0")) {
+                assertEquals(Seat.BYE_SEED - 1, seat.getSeed());
+            }
+        }
+    }
+
+    /**
+     * Checks that a seed which leaves no room for the random seeds of non-seeded {@code Player}s
+     * is refused when the {@code Bracket} is created.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesSeedsTooLargeForRandomSeeds() {
+        Integer[] seeds = {Seat.BYE_SEED - 1, null};
+        new BracketSE("Test", names(2), seeds, new PlanterSE());
+    }
+
+    /**
+     * Checks that every {@code Bye} is planted opposite a {@code Player} when the field is one
+     * more than a power of 2, the case with the most {@code Bye}s.
+     */
+    @Test
+    public void byesNeverMeetEachOther() {
+        int players = (1 << 16) + 1;
+        Bracket bracket = newBracket(players);
+        int byes = 0;
+        for (int row = 0; row < bracket.columnSize(0); row++) {
+            Seat seat = bracket.get(0, row);
+            if (seat instanceof Bye) {
+                byes++;
+                assertTrue(!(bracket.get(0, row ^ 1) instanceof Bye));
+            }
+        }
+        assertEquals(bracket.columnSize(0) - players, byes);
+    }
+
+    /**
+     * Checks that advancing a {@code Player} leaves a {@code Remnant} flag rather than a new
+     * {@code Seat}, that every {@code Bye} is the shared instance, and that both survive a round
+     * trip through the saved state.
+     */
+    @Test
+    public void remnantsAndByesAreHeldByTheBracket() {
+        Bracket bracket = newBracket(3);
+        int leaf = bracket.getSlot(0, 0);
+        int byeSlot = bracket.getOpponentSlot(leaf);
+        assertSame(Bye.getInstance(), bracket.getSeat(byeSlot));
+
+        Seat winner = bracket.getSeat(leaf);
+        bracket.setSeat(bracket.getParentSlot(leaf), winner);
+        bracket.setRemnant(leaf, true);
+        assertSame(winner, bracket.getSeat(leaf));
+        assertEquals(SeatID.REMNANT, SeatID.getType(bracket.getSeatID(leaf)));
+        assertEquals(SeatID.BYE, SeatID.getType(bracket.getSeatID(byeSlot)));
+
+        ArrayList<String> names = new ArrayList<>();
+        ArrayList<Integer> ids = new ArrayList<>();
+        for (int slot = 1; slot <= 2 * bracket.columnSize(0) - 1; slot++) {
+            if (bracket.getSeat(slot) != null) {
+                names.add(bracket.getSeat(slot).getName());
+                ids.add(bracket.getSeatID(slot));
+            }
+        }
+        int[] idState = new int[ids.size()];
+        for (int i = 0; i < idState.length; i++) {
+            idState[i] = ids.get(i);
+        }
+        Bracket recreated = new BracketSE("Test", "1/1/2016", names.toArray(new String[names.size()]), idState, new PlanterSE());
+        assertTrue(recreated.isRemnant(leaf));
+        assertTrue(recreated.isBye(byeSlot));
+        assertSame(recreated.getSeat(recreated.getParentSlot(leaf)), recreated.getSeat(leaf));
+    }
+
+    /**
+     * Checks that a new Bracket is entirely dirty, that after a save only the slots touched by a
+     * match are reported, and that slots can be marked again.
+     */
+    @Test
+    public void onlyChangedSlotsAreDirty() {
+        Bracket bracket = newBracket(8);
+        assertEquals(1, bracket.nextDirtySlot(0));
+        bracket.clearDirty();
+        assertEquals(-1, bracket.nextDirtySlot(0));
+
+        int leaf = bracket.getSlot(0, 5);
+        int parent = bracket.getParentSlot(leaf);
+        bracket.setSeat(parent, bracket.getSeat(leaf));
+        bracket.setRemnant(leaf, true);
+        assertEquals(parent, bracket.nextDirtySlot(0));
+        assertEquals(leaf, bracket.nextDirtySlot(parent + 1));
+        assertEquals(-1, bracket.nextDirtySlot(leaf + 1));
+
+        // a failed save marks its slots again
+        bracket.clearDirty();
+        bracket.markDirty(leaf);
+        assertEquals(leaf, bracket.nextDirtySlot(0));
+    }
+
+    /**
+     * Creates a {@code BracketSE} with the given number of {@code Player}s, the first half of which
+     * are seeded.
+     *
+     * @param players the number of Players in the Bracket
+     * @return        the new Bracket
+     */
+    private Bracket newBracket(int players) {
+        return new BracketSE("Test", names(players), seeds(players), new PlanterSE());
+    }
+
+    /**
+     * Returns a name for each of the given number of {@code Player}s.
+     *
+     * @param players the number of Players in the Bracket
+     * @return        a String[] of Player names
+     */
+    private String[] names(int players) {
+        String[] names = new String[players];
+        for (int i = 0; i < players; i++) {
+            names[i] = "P" + i;
+        }
+        return names;
+    }
+
+    /**
+     * Returns seeds for the given number of {@code Player}s, where only the first half are seeded.
+     *
+     * @param players the number of Players in the Bracket
+     * @return        an Integer[] of seeds, with null for each non-seeded Player
+     */
+    private Integer[] seeds(int players) {
+        Integer[] seeds = new Integer[players];
+        for (int i = 0; i < players / 2; i++) {
+            seeds[i] = i + 1;
+        }
+        return seeds;
+    }
+}
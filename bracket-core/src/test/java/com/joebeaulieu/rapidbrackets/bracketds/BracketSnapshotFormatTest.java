@@ -0,0 +1,111 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.SeatID;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * JVM unit tests for the {@code BracketSnapshotWriter} and {@code BracketSnapshotReader} classes.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see BracketSnapshotWriter BracketSnapshotWriter
+ * @see BracketSnapshotReader BracketSnapshotReader
+ * @since 1.0.1
+ */
+public class BracketSnapshotFormatTest {
+    /**
+     * Checks that a played Bracket, with Remnants, Byes, and names outside of ASCII, survives a
+     * round trip through the format and recreates the same Bracket.
+     */
+    @Test
+    public void roundTrip() {
+        String[] players = {"Zo\u00EB", "\u0141ukasz", "\u674E", "Ana", "Bo"};
+        Bracket bracket = new BracketSE("Caf\u00E9 Cup", players, new Integer[players.length], new PlanterSE());
+        int leaf = bracket.getSlot(0, 0);
+        bracket.setSeat(bracket.getParentSlot(leaf), bracket.getSeat(leaf));
+        bracket.setRemnant(leaf, true);
+
+        BracketSnapshot snapshot = BracketSnapshot.of(bracket);
+        BracketSnapshot read = BracketSnapshotReader.read(BracketSnapshotWriter.write(snapshot));
+        assertEquals(snapshot.getName(), read.getName());
+        assertEquals(snapshot.getElimType(), read.getElimType());
+        assertEquals(snapshot.getDateCreated(), read.getDateCreated());
+        assertArrayEquals(snapshot.getSeatNames(), read.getSeatNames());
+        assertArrayEquals(snapshot.getSeatIds(), read.getSeatIds());
+
+        Bracket recreated = BracketFactory.getBracket(read);
+        for (int slot = 1; slot < 2 * bracket.columnSize(0); slot++) {
+            assertEquals(bracket.getSeatID(slot), recreated.getSeatID(slot));
+        }
+        assertTrue(recreated.isRemnant(leaf));
+    }
+
+    /**
+     * Checks that each repeated name is only stored once, keeping a full Bracket small.
+     */
+    @Test
+    public void namesAreStoredOnce() {
+        String[] names = new String[1024];
+        int[] ids = new int[names.length];
+        Arrays.fill(names, "A rather long player name");
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = SeatID.pack(SeatID.PLAYER, 0, 0, i);
+        }
+        byte[] bytes = BracketSnapshotWriter.write(new BracketSnapshot("Big", 0, "1/1/2016", names, ids));
+        assertTrue(bytes.length + " bytes", bytes.length < 3 * ids.length);
+    }
+
+    /**
+     * Checks that bytes which are not a whole, well formed snapshot are rejected rather than
+     * misread.
+     */
+    @Test
+    public void damagedSnapshotsAreRejected() {
+        byte[] bytes = BracketSnapshotWriter.write(BracketSnapshot.of(
+                new BracketSE("Test", new String[]{"A", "B", "C"}, new Integer[3], new PlanterSE())));
+        byte[][] damaged = {
+                Arrays.copyOf(bytes, bytes.length - 1),
+                Arrays.copyOf(bytes, bytes.length + 1),
+                {'R', 'B', 'S', 'N', 99},
+                {'N', 'O', 'P', 'E', 1},
+                // an unknown elimination type
+                {'R', 'B', 'S', 'N', 1, 7, 0, 0, 0, 0},
+                // Seat type 3
+                {'R', 'B', 'S', 'N', 1, 0, 0, 0, 1, 0, 1, 0, 3},
+                // a negative position
+                {'R', 'B', 'S', 'N', 1, 0, 0, 0, 1, 0, 1, 0, 1 << 2},
+                // a position beyond the largest Bracket
+                snapshotAt(SeatID.pack(SeatID.PLAYER, 0, 0, BracketSE.MAX_LEAVES)),
+                snapshotAt(SeatID.pack(SeatID.PLAYER, 0, 21, 0)),
+                // a position which does not follow the one before it
+                {'R', 'B', 'S', 'N', 1, 0, 0, 0, 1, 0, 2, 0, 2 << 2, 0, 0}
+        };
+        for (byte[] attempt : damaged) {
+            try {
+                BracketSnapshotReader.read(attempt);
+                fail("read " + Arrays.toString(attempt));
+            } catch (IllegalArgumentException expected) {
+                // rejected as it should be
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot holding a single {@code Player} at the given position.
+     *
+     * @param id the packed ID of the Player
+     * @return   the snapshot as bytes
+     */
+    private static byte[] snapshotAt(int id) {
+        return BracketSnapshotWriter.write(new BracketSnapshot("Test", Bracket.SINGLE_ELIM, "1/1/2016",
+                new String[]{"A"}, new int[]{id}));
+    }
+}
@@ -0,0 +1,75 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import com.joebeaulieu.rapidbrackets.seats.Player;
+import com.joebeaulieu.rapidbrackets.seats.Seat;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * JVM unit tests for the {@code PlanterSE} class.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see PlanterSE PlanterSE
+ * @since 1.0.1
+ */
+public class PlanterSETest {
+    /**
+     * Checks that the closed-form seed order matches the standard order built by repeatedly
+     * pairing each seed {@code s} with {@code 2^round + 1 - s}, for every size up to 2^12.
+     */
+    @Test
+    public void matchesStandardSeedOrder() {
+        int[] expected = {1};
+        for (int rounds = 1; rounds <= 12; rounds++) {
+            expected = expand(expected);
+            int leaves = expected.length;
+            Seat[] allLeaves = new Seat[leaves];
+            // plant in reverse seed order so the sort has to do some work
+            for (int i = 0; i < leaves; i++) {
+                allLeaves[i] = new Player("P" + (leaves - i), leaves - i);
+            }
+            Seat[] bracket = new Seat[2 * leaves];
+            new PlanterSE().plant(bracket, allLeaves, leaves);
+            for (int i = 0; i < leaves; i++) {
+                assertEquals("position " + i + " of " + leaves, expected[i], bracket[leaves + i].getSeed());
+            }
+        }
+    }
+
+    /**
+     * Checks that {@code Seat}s with equal seeds keep their original order.
+     */
+    @Test
+    public void sortIsStable() {
+        Seat first = new Player("First", 5);
+        Seat second = new Player("Second", 5);
+        Seat[] allLeaves = {new Player("Last", Integer.MAX_VALUE), first, second, new Player("Top", -1)};
+        Seat[] bracket = new Seat[8];
+        new PlanterSE().plant(bracket, allLeaves, 4);
+        // seed order is [Top, First, Second, Last], planted as seeds [1, 4, 2, 3]
+        assertEquals("Top", bracket[4].getName());
+        assertEquals("Last", bracket[5].getName());
+        assertSame(first, bracket[6]);
+        assertSame(second, bracket[7]);
+    }
+
+    /**
+     * Doubles a seed order, pairing each seed with its opponent for the next round.
+     *
+     * @param order the seed order for the previous round
+     * @return      the seed order for the next round
+     */
+    private int[] expand(int[] order) {
+        int size = order.length * 2;
+        int[] expanded = new int[size];
+        for (int i = 0; i < order.length; i++) {
+            expanded[2 * i] = order[i];
+            expanded[2 * i + 1] = size + 1 - order[i];
+        }
+        return expanded;
+    }
+}
@@ -0,0 +1,88 @@
+package com.joebeaulieu.rapidbrackets.bracketds;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * JVM unit tests for the {@code SeedOrderCache} class.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see SeedOrderCache SeedOrderCache
+ * @since 1.0.1
+ */
+public class SeedOrderCacheTest {
+    /**
+     * Empties the cache so each test starts from a cold cache.
+     */
+    @After
+    public void clearCache() {
+        SeedOrderCache.clear();
+    }
+
+    /**
+     * Checks that the same table is returned for every request of a cached size, and that it
+     * holds the standard seed order.
+     */
+    @Test
+    public void reusesCachedTables() {
+        SeedOrder order = SeedOrderCache.get(8);
+        assertSame(order, SeedOrderCache.get(8));
+        int[] expected = {0, 7, 3, 4, 1, 6, 2, 5};
+        assertEquals(expected.length, order.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], order.get(i));
+        }
+    }
+
+    /**
+     * Checks that tables larger than {@code MAX_CACHED_LEAVES} are not kept.
+     */
+    @Test
+    public void doesNotKeepLargeTables() {
+        int leaves = SeedOrderCache.MAX_CACHED_LEAVES * 2;
+        assertNotSame(SeedOrderCache.get(leaves), SeedOrderCache.get(leaves));
+    }
+
+    /**
+     * Checks that {@code precompute()} fills the cache, and that threads asking for the same table
+     * at once all receive the one that was kept.
+     */
+    @Test
+    public void precomputeAndConcurrentAccess() throws InterruptedException {
+        SeedOrderCache.precompute();
+        final SeedOrder precomputed = SeedOrderCache.get(SeedOrderCache.MAX_PRECOMPUTED_LEAVES);
+
+        final SeedOrder[] results = new SeedOrder[8];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    results[index] = SeedOrderCache.get(SeedOrderCache.MAX_CACHED_LEAVES);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (SeedOrder result : results) {
+            assertSame(results[0], result);
+        }
+        assertSame(precomputed, SeedOrderCache.get(SeedOrderCache.MAX_PRECOMPUTED_LEAVES));
+    }
+
+    /**
+     * Checks that a size which is not a power of 2 is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPowersOfTwo() {
+        SeedOrderCache.get(6);
+    }
+}
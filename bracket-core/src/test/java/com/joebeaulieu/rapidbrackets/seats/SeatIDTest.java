@@ -0,0 +1,62 @@
+package com.joebeaulieu.rapidbrackets.seats;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * JVM unit tests for the {@code SeatID} class.
+ *
+ * @author Joe Beaulieu
+ * @version 1.0.1
+ * @see SeatID SeatID
+ * @since 1.0.1
+ */
+public class SeatIDTest {
+    /**
+     * Checks that every field survives packing at the edges of its range.
+     */
+    @Test
+    public void packAndUnpack() {
+        int id = SeatID.pack(SeatID.BYE, 2, 31, (1 << 21) - 1);
+        assertEquals(SeatID.BYE, SeatID.getType(id));
+        assertEquals(2, SeatID.getTier(id));
+        assertEquals(31, SeatID.getColumn(id));
+        assertEquals((1 << 21) - 1, SeatID.getRow(id));
+    }
+
+    /**
+     * Checks that replacing the type or tier leaves the other fields untouched.
+     */
+    @Test
+    public void withTypeAndTier() {
+        int id = SeatID.pack(SeatID.PLAYER, 1, 4, 9);
+        int remnant = SeatID.withType(id, SeatID.REMNANT);
+        assertEquals(SeatID.pack(SeatID.REMNANT, 1, 4, 9), remnant);
+        assertEquals(SeatID.pack(SeatID.REMNANT, 2, 4, 9), SeatID.withTier(remnant, 2));
+    }
+
+    /**
+     * Checks that the position of a slot is the same whatever type of Seat it holds.
+     */
+    @Test
+    public void positionIgnoresType() {
+        int player = SeatID.pack(SeatID.PLAYER, 1, 4, 9);
+        assertEquals(player, SeatID.getPosition(player));
+        assertEquals(player, SeatID.getPosition(SeatID.withType(player, SeatID.REMNANT)));
+        assertEquals(player, SeatID.getPosition(SeatID.withType(player, SeatID.BYE)));
+    }
+
+    /**
+     * Checks that IDs saved as Strings before IDs were packed are converted, and that packed IDs
+     * saved as Strings are read back unchanged.
+     */
+    @Test
+    public void fromLegacyString() {
+        assertEquals(SeatID.pack(SeatID.PLAYER, 0, 0, 12), SeatID.fromString("p012", 0));
+        assertEquals(SeatID.pack(SeatID.REMNANT, 1, 1, 3), SeatID.fromString("r13", 1));
+        assertEquals(SeatID.pack(SeatID.BYE, 0, 0, 7), SeatID.fromString("b07", 0));
+        int packed = SeatID.pack(SeatID.PLAYER, 0, 3, 100);
+        assertEquals(packed, SeatID.fromString(Integer.toString(packed), 0));
+    }
+}